@@ -1,7 +1,57 @@
 import java.io.*;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.zip.CRC32;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
 
 public class TabelaHash {
 
@@ -56,15 +106,459 @@ public class TabelaHash {
             }
             return Math.abs(rev);
         }
+
+        // Finalizador do MurmurHash3 aplicado à chave combinada com uma semente
+        // (permite trocar a função hash sem trocar a FuncaoHash usada)
+        public static int misturar(int chave, int semente) {
+            int h = chave ^ semente;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        }
+
+        // Menor primo >= n (usado no crescimento das tabelas)
+        public static int proximoPrimo(int n) {
+            if (n <= 2) return 2;
+            int p = (n % 2 == 0) ? n + 1 : n;
+            while (!ehPrimo(p)) p += 2;
+            return p;
+        }
+
+        private static boolean ehPrimo(int n) {
+            if (n < 2) return false;
+            if (n % 2 == 0) return n == 2;
+            for (int d = 3; (long) d * d <= n; d += 2)
+                if (n % d == 0) return false;
+            return true;
+        }
+    }
+
+    // Estatísticas de ocupação comuns às tabelas (colunas lista1..3 e gap* do CSV)
+    public static class EstatisticasTabela {
+        // As 3 maiores listas (0 onde houver menos de 3 baldes); comprimento(i) do balde i
+        public static Integer[] top3Listas(int tamanho, IntUnaryOperator comprimento) {
+            int l1 = 0, l2 = 0, l3 = 0;
+            for (int i = 0; i < tamanho; i++) {
+                int c = comprimento.applyAsInt(i);
+                if (c > l1) { l3 = l2; l2 = l1; l1 = c; }
+                else if (c > l2) { l3 = l2; l2 = c; }
+                else if (c > l3) l3 = c;
+            }
+            return new Integer[]{l1, l2, l3};
+        }
+
+        // Menor, maior e média dos gaps (posições livres entre duas posições ocupadas seguidas)
+        public static double[] gaps(int tamanho, IntPredicate ocupada) {
+            int anterior = -1, cont = 0;
+            long soma = 0;
+            int menor = Integer.MAX_VALUE, maior = Integer.MIN_VALUE;
+
+            for (int i = 0; i < tamanho; i++) {
+                if (ocupada.test(i)) {
+                    if (anterior != -1) {
+                        int gap = i - anterior - 1; // gap = espaços livres entre o anterior e o atual
+                        soma += gap;
+                        cont++;
+                        if (gap < menor) menor = gap;
+                        if (gap > maior) maior = gap;
+                    }
+                    anterior = i;
+                }
+            }
+
+            if (cont == 0) return new double[]{0, 0, 0};
+            return new double[]{menor, maior, ((double) soma) / cont};
+        }
+    }
+
+    // Catálogo de funções hash com semente (uma instância por tabela)
+    // - Com a semente sorteada, quem conhece o esquema não consegue escolher chaves que
+    //   caiam todas no mesmo balde
+    // - Todas reduzem o hash de 32 bits ao tamanho da tabela multiplicando e deslocando
+    //   (h * M) >>> 32, sem divisão; funciona com M primo ou potência de 2
+    public static class CatalogoHash {
+        private static final SecureRandom SORTEIO = new SecureRandom();
+
+        public static long novaSemente() { return SORTEIO.nextLong(); }
+
+        static int reduzir(int h, int tamanho) {
+            return (int) (((h & 0xFFFFFFFFL) * tamanho) >>> 32);
+        }
+
+        // Multiplica-soma-desloca (Dietzfelbinger): universal com a e b sorteados
+        public static FuncaoHash multiplicaDesloca(long semente) {
+            SplittableRandom rnd = new SplittableRandom(semente);
+            long a = rnd.nextLong() | 1;
+            long b = rnd.nextLong();
+            return (k, M) -> reduzir((int) ((a * (k & 0xFFFFFFFFL) + b) >>> 32), M);
+        }
+
+        // Tabulação simples: XOR de 4 tabelas de 256 valores sorteados, uma por byte da chave
+        public static FuncaoHash tabulacao(long semente) {
+            SplittableRandom rnd = new SplittableRandom(semente);
+            int[][] t = new int[4][256];
+            for (int[] linha : t)
+                for (int i = 0; i < 256; i++) linha[i] = rnd.nextInt();
+            return (k, M) -> reduzir(t[0][k & 0xFF] ^ t[1][(k >>> 8) & 0xFF]
+                    ^ t[2][(k >>> 16) & 0xFF] ^ t[3][k >>> 24], M);
+        }
+
+        // Finalizador do MurmurHash3 (mesma família do avalanche do xxHash) com semente
+        public static FuncaoHash murmur(long semente) {
+            int s = (int) (semente ^ (semente >>> 32));
+            return (k, M) -> reduzir(HashUtils.misturar(k, s), M);
+        }
+
+        // Passo do Hash Duplo em [1, M-1]: uma multiplicação no lugar dos 9 passos de
+        // divisão/módulo de inverterDigitos (com M primo, qualquer passo percorre a tabela)
+        public static FuncaoHash passoMultiplicativo(long semente) {
+            long a = new SplittableRandom(semente).nextLong() | 1;
+            return (k, M) -> 1 + reduzir((int) ((a * (k & 0xFFFFFFFFL)) >>> 32), M - 1);
+        }
+    }
+
+    // Relatório de qualidade das funções hash sobre um dataset
+    // - Qui-quadrado da ocupação dos baldes contra a uniforme (dividido pelos graus de
+    //   liberdade: perto de 1 é o esperado para uma função aleatória)
+    // - Maior lista (balde mais cheio) e tempo médio por hash (melhor de REPETICOES)
+    public static class RelatorioHash {
+        private static final int REPETICOES = 5;
+        private static volatile long sumidouro;
+
+        public static void executar(int[] chaves, int[] tamanhos, String[] nomes, FuncaoHash[] funcoes,
+                                    String arquivoCsv) throws IOException {
+            System.out.println("\n*** RELATÓRIO DAS FUNÇÕES HASH (" + chaves.length + " chaves) ***");
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(arquivoCsv))) {
+                bw.write("funcao,tamanhoTabela,tamanhoDataset,quiQuadrado,quiQuadradoNormalizado,maiorLista,nsPorHash\n");
+                for (int M : tamanhos) {
+                    for (int f = 0; f < funcoes.length; f++) {
+                        FuncaoHash h = funcoes[f];
+                        int[] baldes = new int[M];
+                        for (int k : chaves) baldes[h.hash(k, M)]++;
+
+                        double esperado = (double) chaves.length / M;
+                        double qui = 0;
+                        int maior = 0;
+                        for (int c : baldes) {
+                            qui += (c - esperado) * (c - esperado) / esperado;
+                            if (c > maior) maior = c;
+                        }
+
+                        long melhor = Long.MAX_VALUE;
+                        for (int r = 0; r < REPETICOES; r++) {
+                            long soma = 0;
+                            long t0 = System.nanoTime();
+                            for (int k : chaves) soma += h.hash(k, M);
+                            melhor = Math.min(melhor, System.nanoTime() - t0);
+                            sumidouro += soma;
+                        }
+                        double nsPorHash = (double) melhor / chaves.length;
+
+                        System.out.printf(java.util.Locale.US, "%-22s Tabela=%-9d | χ²/gl %7.4f | maior lista %3d | %6.2f ns/hash%n",
+                                nomes[f], M, qui / (M - 1), maior, nsPorHash);
+                        bw.write(String.format(java.util.Locale.US, "%s,%d,%d,%.2f,%.6f,%d,%.3f\n",
+                                nomes[f], M, chaves.length, qui, qui / (M - 1), maior, nsPorHash));
+                    }
+                }
+            }
+            System.out.println("Resultados salvos em: " + arquivoCsv);
+        }
+    }
+
+    // Instrumentação opcional das tabelas (ligada com -Dtabelahash.instrumentar=true)
+    // - ATIVO é static final: desligada, os blocos "if (Instrumentacao.ATIVO)" somem no JIT
+    // - Histogramas do comprimento de sondagem (ou do percurso na lista) de inserções e
+    //   buscas, sondagem máxima e fator de carga no momento da leitura
+    // - Cada tabela instrumentada vira um MBean (TabelaHash:type=Tabela,name=<tipo>-<id>)
+    //   e aparece no JFR: evento periódico com o estado (série do fator de carga) e um
+    //   evento por sondagem longa
+    // - Guarda só uma referência fraca da tabela: tabelas coletadas saem do MBean server
+    public interface InstrumentacaoMBean {
+        String getTipo();
+        double getFatorCarga();
+        long getInsercoes();
+        long getBuscas();
+        int getSondagemMaximaInsercao();
+        int getSondagemMaximaBusca();
+        double getSondagemMediaInsercao();
+        double getSondagemMediaBusca();
+        long[] getHistogramaInsercao();
+        long[] getHistogramaBusca();
+        void zerar();
+    }
+
+    public static class Instrumentacao implements InstrumentacaoMBean {
+        public static final boolean ATIVO = Boolean.getBoolean("tabelahash.instrumentar");
+        // A última faixa do histograma acumula as sondagens >= FAIXAS - 1
+        public static final int FAIXAS = 64;
+        public static final int LIMIAR_SONDAGEM_LONGA = 32;
+
+        private static final List<Instrumentacao> ATIVAS = new CopyOnWriteArrayList<>();
+        private static final AtomicLong PROXIMO_ID = new AtomicLong();
+
+        static {
+            if (ATIVO) FlightRecorder.addPeriodicEvent(EventoEstado.class, Instrumentacao::emitirEstados);
+        }
+
+        private final String tipo;
+        private final ObjectName nome;
+        private final WeakReference<Object> dono;
+        private final ToDoubleFunction<Object> fatorCarga;
+
+        // As tabelas não são thread-safe; as leituras pelo MBean/JFR são só aproximadas
+        private final long[] histInsercao = new long[FAIXAS];
+        private final long[] histBusca = new long[FAIXAS];
+        private long insercoes, buscas, somaInsercao, somaBusca;
+        private int maxInsercao, maxBusca;
+
+        @SuppressWarnings("unchecked")
+        <T> Instrumentacao(String tipo, T dono, ToDoubleFunction<T> fatorCarga) {
+            this.tipo = tipo;
+            this.dono = new WeakReference<>(dono);
+            this.fatorCarga = (ToDoubleFunction<Object>) fatorCarga;
+            limparColetadas();
+            try {
+                this.nome = new ObjectName("TabelaHash:type=Tabela,name=" + tipo + "-" + PROXIMO_ID.incrementAndGet());
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, nome);
+            } catch (JMException e) {
+                throw new IllegalStateException("Falha ao registrar MBean da tabela " + tipo, e);
+            }
+            ATIVAS.add(this);
+        }
+
+        void insercao(long sondagens) {
+            int s = (int) Math.min(sondagens, Integer.MAX_VALUE);
+            histInsercao[Math.min(s, FAIXAS - 1)]++;
+            insercoes++;
+            somaInsercao += s;
+            if (s > maxInsercao) maxInsercao = s;
+            if (s >= LIMIAR_SONDAGEM_LONGA) emitirSondagemLonga("insercao", s);
+        }
+
+        void busca(int sondagens) {
+            histBusca[Math.min(sondagens, FAIXAS - 1)]++;
+            buscas++;
+            somaBusca += sondagens;
+            if (sondagens > maxBusca) maxBusca = sondagens;
+            if (sondagens >= LIMIAR_SONDAGEM_LONGA) emitirSondagemLonga("busca", sondagens);
+        }
+
+        private void emitirSondagemLonga(String operacao, int sondagens) {
+            EventoSondagemLonga e = new EventoSondagemLonga();
+            if (!e.isEnabled()) return;
+            e.tabela = nome.getKeyProperty("name");
+            e.operacao = operacao;
+            e.sondagens = sondagens;
+            e.fatorCarga = getFatorCarga();
+            e.commit();
+        }
+
+        private static void emitirEstados() {
+            limparColetadas();
+            for (Instrumentacao i : ATIVAS) {
+                EventoEstado e = new EventoEstado();
+                e.tabela = i.nome.getKeyProperty("name");
+                e.fatorCarga = i.getFatorCarga();
+                e.insercoes = i.insercoes;
+                e.buscas = i.buscas;
+                e.sondagemMaximaInsercao = i.maxInsercao;
+                e.sondagemMaximaBusca = i.maxBusca;
+                e.sondagemMediaInsercao = i.getSondagemMediaInsercao();
+                e.sondagemMediaBusca = i.getSondagemMediaBusca();
+                e.commit();
+            }
+        }
+
+        // Tira do MBean server as instrumentações cujas tabelas já foram coletadas
+        private static void limparColetadas() {
+            for (Instrumentacao i : ATIVAS) {
+                if (i.dono.get() != null) continue;
+                ATIVAS.remove(i);
+                try {
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(i.nome);
+                } catch (JMException e) {
+                    // Já removido
+                }
+            }
+        }
+
+        @Override public String getTipo() { return tipo; }
+        @Override public double getFatorCarga() {
+            Object t = dono.get();
+            return (t == null) ? 0 : fatorCarga.applyAsDouble(t);
+        }
+        @Override public long getInsercoes() { return insercoes; }
+        @Override public long getBuscas() { return buscas; }
+        @Override public int getSondagemMaximaInsercao() { return maxInsercao; }
+        @Override public int getSondagemMaximaBusca() { return maxBusca; }
+        @Override public double getSondagemMediaInsercao() { return insercoes == 0 ? 0 : (double) somaInsercao / insercoes; }
+        @Override public double getSondagemMediaBusca() { return buscas == 0 ? 0 : (double) somaBusca / buscas; }
+        @Override public long[] getHistogramaInsercao() { return histInsercao.clone(); }
+        @Override public long[] getHistogramaBusca() { return histBusca.clone(); }
+        @Override public void zerar() {
+            Arrays.fill(histInsercao, 0);
+            Arrays.fill(histBusca, 0);
+            insercoes = buscas = somaInsercao = somaBusca = 0;
+            maxInsercao = maxBusca = 0;
+        }
+    }
+
+    @Name("tabelahash.Estado")
+    @Label("Estado da Tabela Hash")
+    @Category("TabelaHash")
+    @Period("1 s")
+    public static class EventoEstado extends Event {
+        @Label("Tabela") String tabela;
+        @Label("Fator de Carga") double fatorCarga;
+        @Label("Inserções") long insercoes;
+        @Label("Buscas") long buscas;
+        @Label("Sondagem Máxima (Inserção)") int sondagemMaximaInsercao;
+        @Label("Sondagem Máxima (Busca)") int sondagemMaximaBusca;
+        @Label("Sondagem Média (Inserção)") double sondagemMediaInsercao;
+        @Label("Sondagem Média (Busca)") double sondagemMediaBusca;
+    }
+
+    @Name("tabelahash.SondagemLonga")
+    @Label("Sondagem Longa")
+    @Category("TabelaHash")
+    @Description("Operação com pelo menos Instrumentacao.LIMIAR_SONDAGEM_LONGA colisões")
+    public static class EventoSondagemLonga extends Event {
+        @Label("Tabela") String tabela;
+        @Label("Operação") String operacao;
+        @Label("Sondagens") int sondagens;
+        @Label("Fator de Carga") double fatorCarga;
+    }
+
+    // Filtro de Bloom em blocos, usado na frente das tabelas para rejeitar chaves ausentes
+    // - Cada chave cai em um único bloco de 512 bits (8 longs = 64 bytes, o tamanho de uma
+    //   linha de cache) e liga K bits dentro dele: a consulta toca uma linha só
+    // - Não tem remoção: chaves removidas da tabela continuam no filtro (só aumentam os
+    //   falsos positivos) até o filtro ser reconstruído
+    // - A taxa de falsos positivos é medida nas consultas: falsos positivos / (falsos
+    //   positivos + rejeitadas); a tabela avisa quando o filtro deixou passar uma ausente
+    public static class FiltroBloom {
+        private static final int K = 6;
+        private static final int LONGS_POR_BLOCO = 8;
+        private static final long SEMENTE = 0x9E3779B97F4A7C15L;
+
+        private final long[] bits;
+        private final int numBlocos;
+        private final double bitsPorChave;
+        private long adicionadas;
+        private long rejeitadas;
+        private long falsosPositivos;
+
+        public FiltroBloom(long capacidade, double bitsPorChave) {
+            if (bitsPorChave <= 0) throw new IllegalArgumentException("Bits por chave deve ser positivo: " + bitsPorChave);
+            long blocos = Math.max(1, (long) Math.ceil(capacidade * bitsPorChave / 512));
+            if (blocos * LONGS_POR_BLOCO > Integer.MAX_VALUE - 8)
+                throw new IllegalArgumentException("Filtro grande demais para " + capacidade + " chaves");
+            this.numBlocos = (int) blocos;
+            this.bitsPorChave = bitsPorChave;
+            this.bits = new long[numBlocos * LONGS_POR_BLOCO];
+        }
+
+        // Finalizador de 64 bits do MurmurHash3
+        private static long misturar64(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        public void adicionar(int chave) {
+            long h = misturar64(chave);
+            int base = bloco(h) * LONGS_POR_BLOCO;
+            long g = misturar64(h ^ SEMENTE);
+            for (int i = 0; i < K; i++) {
+                int bit = (int) (g >>> (9 * i)) & 511; // 9 bits escolhem um dos 512 bits do bloco
+                bits[base + (bit >>> 6)] |= 1L << bit;
+            }
+            adicionadas++;
+        }
+
+        // false garante que a chave não foi adicionada; true pode ser falso positivo
+        public boolean talvezContem(int chave) {
+            return talvezContem(chave, null);
+        }
+
+        // Durante a migração as chaves ainda não movidas só estão no filtro de antes do
+        // crescimento ('anterior'), que também é consultado
+        public boolean talvezContem(int chave, FiltroBloom anterior) {
+            if (testar(chave) || (anterior != null && anterior.testar(chave))) return true;
+            rejeitadas++;
+            return false;
+        }
+
+        private boolean testar(int chave) {
+            long h = misturar64(chave);
+            int base = bloco(h) * LONGS_POR_BLOCO;
+            long g = misturar64(h ^ SEMENTE);
+            for (int i = 0; i < K; i++) {
+                int bit = (int) (g >>> (9 * i)) & 511;
+                if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        // Bloco pelos 32 bits altos (multiplica e desloca, sem módulo)
+        private int bloco(long h) {
+            return (int) (((h >>> 32) * numBlocos) >>> 32);
+        }
+
+        void registrarFalsoPositivo() { falsosPositivos++; }
+
+        public long getAdicionadas() { return adicionadas; }
+        public long getRejeitadas() { return rejeitadas; }
+        public long getFalsosPositivos() { return falsosPositivos; }
+        public long getBytes() { return (long) bits.length * 8; }
+        public double getBitsPorChave() { return bitsPorChave; }
+
+        public double getTaxaFalsosPositivos() {
+            long negativas = rejeitadas + falsosPositivos;
+            return negativas == 0 ? 0 : (double) falsosPositivos / negativas;
+        }
+
+        public void zerarContadores() {
+            rejeitadas = 0;
+            falsosPositivos = 0;
+        }
     }
 
     // Implementação com Encadeamento (Chaining)
     // - AGORA COM INSERÇÃO ORDENADA CONFORME REQUISITO
+    // - Crescimento automático opcional: quando o comprimento médio das listas passa do
+    //   limite, a tabela cresce para o próximo primo (~2x) e os baldes são movidos aos
+    //   poucos (alguns por operação) para a nova tabela
+    // - Baldes são criados no primeiro uso, para o crescimento não alocar a tabela nova inteira
     public static class TabelaEncadeada {
-        private final Balde[] tabela;
-        private final int tamanho;
+        // Quantidade de baldes da tabela antiga movidos a cada operação
+        private static final int PASSO_MIGRACAO = 4;
+
+        private Balde[] tabela;
+        private int tamanho;
         private final FuncaoHash funcao;
         private long colisoes = 0;
+        private long quantidade = 0;
+        private final double comprimentoMedioMax; // <= 0 desativa o crescimento
+
+        // Tabela antiga durante a migração (null quando não há migração)
+        private Balde[] tabelaAntiga;
+        private int tamanhoAntigo;
+        private int indiceMigracao;
+
+        // Instrumentação opcional (null quando desligada)
+        private final Instrumentacao instr = Instrumentacao.ATIVO
+                ? new Instrumentacao("encadeamento", this, TabelaEncadeada::getComprimentoMedio) : null;
+        private int ultimoPercurso; // Nós visitados na última busca (só com instrumentação)
+
+        private FiltroBloom filtro; // Opcional: rejeita chaves ausentes antes de percorrer a lista
+        private FiltroBloom filtroAntigo; // Filtro de antes do crescimento, consultado até a migração terminar
 
         private static class No {
             Registro registro;
@@ -78,22 +572,41 @@ public class TabelaHash {
         }
 
         public TabelaEncadeada(int tamanho, FuncaoHash funcao) {
+            this(tamanho, funcao, 0);
+        }
+
+        public TabelaEncadeada(int tamanho, FuncaoHash funcao, double comprimentoMedioMax) {
             this.tamanho = tamanho;
             this.funcao = funcao;
+            this.comprimentoMedioMax = comprimentoMedioMax;
             this.tabela = new Balde[tamanho];
-            for (int i = 0; i < tamanho; i++) tabela[i] = new Balde();
         }
 
         public void inserir(Registro r) {
-            int chave = r.paraInteiro();
-            int codigo = r.paraInteiro();
+            if (tabelaAntiga != null) migrarPasso();
+            // Com migração pendente o crescimento espera ela terminar (senão teria que concluí-la
+            // de uma vez); as listas só ficam um pouco mais longas por algumas operações
+            if (comprimentoMedioMax > 0 && tabelaAntiga == null && quantidade + 1 > comprimentoMedioMax * tamanho) crescer();
+
+            long c = inserirEm(tabela, tamanho, new No(r));
+            colisoes += c;
+            quantidade++;
+            if (filtro != null) filtro.adicionar(r.paraInteiro());
+            if (Instrumentacao.ATIVO) instr.insercao(c);
+        }
+
+        // Insere o nó na lista ordenada do seu balde e retorna as colisões contadas
+        private long inserirEm(Balde[] tabela, int tamanho, No novo) {
+            int chave = novo.registro.paraInteiro();
+            int codigo = chave;
             int indice = funcao.hash(chave, tamanho);
             Balde b = tabela[indice];
-            
-            No novo = new No(r);
+            if (b == null) b = tabela[indice] = new Balde();
+            long colisoes = 0;
             
             if (b.cabeca == null) {
                 // Balde vazio
+                novo.proximo = null;
                 b.cabeca = novo;
             } else {
                 // CORREÇÃO: Contagem de colisões mais precisa.
@@ -124,180 +637,3243 @@ public class TabelaHash {
                 }
             }
             b.tamanho++;
+            return colisoes;
         }
 
         public boolean contem(Registro r) {
-            int indice = funcao.hash(r.paraInteiro(), tamanho);
-            No atual = tabela[indice].cabeca;
+            if (filtro == null) return buscar(r);
+            if (!filtro.talvezContem(r.paraInteiro(), filtroAntigo)) return false;
+            boolean achou = buscar(r);
+            if (!achou) filtro.registrarFalsoPositivo();
+            return achou;
+        }
+
+        private boolean buscar(Registro r) {
+            if (tabelaAntiga == null) {
+                boolean achou = contemEm(tabela, tamanho, r);
+                if (Instrumentacao.ATIVO) instr.busca(ultimoPercurso);
+                return achou;
+            }
+            migrarPasso();
+            // Durante a migração o registro pode estar em qualquer uma das duas tabelas
+            boolean achou = contemEm(tabela, tamanho, r);
+            int percurso = ultimoPercurso;
+            if (!achou && tabelaAntiga != null) {
+                achou = contemEm(tabelaAntiga, tamanhoAntigo, r);
+                percurso += ultimoPercurso;
+            }
+            if (Instrumentacao.ATIVO) instr.busca(percurso);
+            return achou;
+        }
+
+        private boolean contemEm(Balde[] tabela, int tamanho, Registro r) {
+            Balde b = tabela[funcao.hash(r.paraInteiro(), tamanho)];
+            No atual = (b == null) ? null : b.cabeca;
+            int passos = 0;
             while (atual != null) {
-                if (atual.registro.equals(r)) return true;
+                if (atual.registro.equals(r)) return percorreu(passos, true);
                 atual = atual.proximo;
+                passos++;
+            }
+            return percorreu(passos, false);
+        }
+
+        private boolean percorreu(int passos, boolean achou) {
+            if (Instrumentacao.ATIVO) ultimoPercurso = passos;
+            return achou;
+        }
+
+        // Aloca a nova tabela; os baldes antigos são movidos em migrarPasso()
+        // (só é chamado sem migração pendente)
+        private void crescer() {
+            tabelaAntiga = tabela;
+            tamanhoAntigo = tamanho;
+            indiceMigracao = 0;
+
+            tamanho = HashUtils.proximoPrimo(2 * tamanho);
+            tabela = new Balde[tamanho];
+            if (filtro != null) {
+                // O filtro novo recebe as chaves conforme os baldes são migrados
+                filtroAntigo = filtro;
+                filtro = novoFiltro(filtro.getBitsPorChave());
+            }
+        }
+
+        // Liga o filtro de Bloom (dimensionado para o tamanho atual) e adiciona as chaves já inseridas
+        public FiltroBloom ativarFiltroBloom(double bitsPorChave) {
+            reconstruirFiltro(bitsPorChave);
+            return filtro;
+        }
+
+        private void reconstruirFiltro(double bitsPorChave) {
+            filtro = novoFiltro(bitsPorChave);
+            filtroAntigo = null;
+            for (Balde[] t : new Balde[][] {tabela, tabelaAntiga}) {
+                if (t == null) continue;
+                for (Balde b : t) {
+                    if (b == null) continue;
+                    for (No n = b.cabeca; n != null; n = n.proximo) filtro.adicionar(n.registro.paraInteiro());
+                }
+            }
+        }
+
+        // Dimensiona para o máximo de nós antes do próximo crescimento
+        private FiltroBloom novoFiltro(double bitsPorChave) {
+            long capacidade = Math.max(quantidade, (long) Math.ceil(tamanho * Math.max(1, comprimentoMedioMax)));
+            return new FiltroBloom(capacidade, bitsPorChave);
+        }
+
+        public FiltroBloom getFiltroBloom() { return filtro; }
+
+        private void migrarPasso() {
+            migrarAte(Math.min(indiceMigracao + PASSO_MIGRACAO, tamanhoAntigo));
+        }
+
+        private void concluirMigracao() {
+            if (tabelaAntiga != null) migrarAte(tamanhoAntigo);
+        }
+
+        // Move os nós (sem realocar) dos baldes antigos para as listas ordenadas da nova tabela
+        private void migrarAte(int fim) {
+            for (int j = indiceMigracao; j < fim; j++) {
+                Balde antigo = tabelaAntiga[j];
+                if (antigo == null) continue;
+                No atual = antigo.cabeca;
+                while (atual != null) {
+                    No proximo = atual.proximo;
+                    inserirEm(tabela, tamanho, atual);
+                    if (filtroAntigo != null) filtro.adicionar(atual.registro.paraInteiro());
+                    atual = proximo;
+                }
+                tabelaAntiga[j] = null;
+            }
+            indiceMigracao = fim;
+            if (indiceMigracao >= tamanhoAntigo) {
+                tabelaAntiga = null;
+                filtroAntigo = null;
             }
-            return false;
         }
 
         public long getColisoes() { return colisoes; }
+        public long getQuantidade() { return quantidade; }
+        public int getTamanho() { return tamanho; }
+        public double getComprimentoMedio() { return (double) quantidade / tamanho; }
+
+        // Construção paralela a partir do arquivo de dados (um código por linha)
+        // 1. O arquivo é dividido em faixas de bytes alinhadas ao início das linhas, e cada
+        //    faixa é lida em uma tarefa do ForkJoinPool
+        // 2. Cada tarefa separa os registros pela faixa de baldes de destino, mantendo a
+        //    ordem do arquivo
+        // 3. Cada faixa de baldes é preenchida por uma única tarefa, percorrendo as faixas do
+        //    arquivo em ordem, sem disputa entre threads
+        // Como cada balde recebe os registros na mesma ordem da leitura sequencial, as listas,
+        // os tamanhos e as colisões ficam idênticos aos de inserir() linha a linha
+        public static TabelaEncadeada construirParalelo(Path arquivo, int tamanho, FuncaoHash funcao,
+                                                        int paralelismo) throws IOException {
+            TabelaEncadeada t = new TabelaEncadeada(tamanho, funcao);
+            int numFaixasBaldes = Math.max(1, Math.min(tamanho, paralelismo * 4));
+            int baldesPorFaixa = (tamanho + numFaixasBaldes - 1) / numFaixasBaldes;
+
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                long tamanhoArquivo = canal.size();
+                int numPedacos = (int) Math.max(1, Math.min(paralelismo * 4L, tamanhoArquivo / (1 << 16)));
+
+                // Fase 1: leitura e separação por faixa de baldes
+                List<ForkJoinTask<List<List<Registro>>>> leituras = new ArrayList<>();
+                for (int p = 0; p < numPedacos; p++) {
+                    long ini = tamanhoArquivo * p / numPedacos;
+                    long fim = tamanhoArquivo * (p + 1) / numPedacos;
+                    leituras.add(pool.submit(() -> {
+                        List<List<Registro>> porFaixa = new ArrayList<>(numFaixasBaldes);
+                        for (int f = 0; f < numFaixasBaldes; f++) porFaixa.add(new ArrayList<>());
+                        for (Registro r : lerFaixa(canal, ini, fim, tamanhoArquivo))
+                            porFaixa.get(funcao.hash(r.paraInteiro(), tamanho) / baldesPorFaixa).add(r);
+                        return porFaixa;
+                    }));
+                }
+                List<List<List<Registro>>> pedacos = new ArrayList<>(numPedacos);
+                for (ForkJoinTask<List<List<Registro>>> tarefa : leituras) pedacos.add(tarefa.join());
+
+                // Fase 2: cada tarefa insere só nos baldes da sua faixa, na ordem do arquivo
+                List<ForkJoinTask<Long>> insercoes = new ArrayList<>();
+                for (int f = 0; f < numFaixasBaldes; f++) {
+                    int faixa = f;
+                    insercoes.add(pool.submit(() -> {
+                        long colisoes = 0;
+                        for (List<List<Registro>> pedaco : pedacos)
+                            for (Registro r : pedaco.get(faixa))
+                                colisoes += t.inserirEm(t.tabela, t.tamanho, new No(r));
+                        return colisoes;
+                    }));
+                }
+                for (int f = 0; f < numFaixasBaldes; f++) {
+                    t.colisoes += insercoes.get(f).join();
+                    for (List<List<Registro>> pedaco : pedacos) t.quantidade += pedaco.get(f).size();
+                }
+            } finally {
+                pool.shutdown();
+            }
+            return t;
+        }
+
+        // Lê as linhas que COMEÇAM em [ini, fim); a última pode terminar depois de fim
+        private static List<Registro> lerFaixa(FileChannel canal, long ini, long fim, long tamanhoArquivo)
+                throws IOException {
+            final int margem = 256; // Folga para a última linha, que pode passar de fim
+            long leituraIni = Math.max(0, ini - 1);
+            long leituraFim = Math.min(tamanhoArquivo, fim + margem);
+            ByteBuffer buf = ByteBuffer.allocate((int) (leituraFim - leituraIni));
+            while (buf.hasRemaining()) {
+                if (canal.read(buf, leituraIni + buf.position()) < 0) break;
+            }
+            byte[] bytes = buf.array();
+
+            // Pula a linha parcial: ela pertence à faixa anterior
+            int i = (int) (ini - leituraIni);
+            if (ini > 0) {
+                i = 0;
+                while (i < bytes.length && bytes[i] != '\n') i++;
+                i++;
+            }
+
+            List<Registro> registros = new ArrayList<>();
+            int limite = (int) (fim - leituraIni);
+            while (i < limite && i < bytes.length) {
+                int inicioLinha = i;
+                while (i < bytes.length && bytes[i] != '\n') i++;
+                if (i == bytes.length && leituraFim < tamanhoArquivo)
+                    throw new IOException("Linha maior que " + margem + " bytes no offset " + (leituraIni + inicioLinha));
+                // Mesmo tratamento de readLine() + trim() da leitura sequencial
+                String linha = new String(bytes, inicioLinha, i - inicioLinha, StandardCharsets.ISO_8859_1).trim();
+                registros.add(new Registro(linha));
+                i++;
+            }
+            return registros;
+        }
 
         // Retorna as 3 maiores listas
         public Integer[] getTop3Listas() {
-            Integer[] tamanhosListas = new Integer[tamanho];
-            for (int i = 0; i < tamanho; i++) {
-                tamanhosListas[i] = tabela[i].tamanho;
+            concluirMigracao();
+            return EstatisticasTabela.top3Listas(tamanho, i -> (tabela[i] == null) ? 0 : tabela[i].tamanho);
+        }
+
+        // Calcula Menor, Maior e Média de Gap
+        public double[] calcularGaps() {
+            concluirMigracao();
+            return EstatisticasTabela.gaps(tamanho, i -> tabela[i] != null && tabela[i].tamanho > 0);
+        }
+    }
+
+    // Encadeamento com baldes em vetores ordenados (int[] por balde)
+    // - Cada lista é um int[] crescente (dobra quando enche) em vez de nós ligados
+    // - Busca por pesquisa binária; inserção ordenada com System.arraycopy
+    // - A contagem de colisões é a mesma da TabelaEncadeada: 1 se o balde já tem
+    //   elementos, mais 1 para cada elemento menor que a chave (os nós que a lista percorreria)
+    public static class TabelaEncadeadaVetor {
+        private static final int CAPACIDADE_INICIAL_BALDE = 4;
+
+        private final int[][] baldes; // null enquanto o balde está vazio
+        private final int[] tamanhos;
+        private final int tamanho;
+        private final FuncaoHash funcao;
+        private long colisoes = 0;
+
+        public TabelaEncadeadaVetor(int tamanho, FuncaoHash funcao) {
+            this.tamanho = tamanho;
+            this.funcao = funcao;
+            this.baldes = new int[tamanho][];
+            this.tamanhos = new int[tamanho];
+        }
+
+        public void inserir(int chave) {
+            int indice = funcao.hash(chave, tamanho);
+            int[] balde = baldes[indice];
+            int n = tamanhos[indice];
+
+            if (balde == null) {
+                balde = new int[CAPACIDADE_INICIAL_BALDE];
+                baldes[indice] = balde;
             }
-            
-            // Ordena o array de tamanhos em ordem decrescente
-            Arrays.sort(tamanhosListas, Comparator.reverseOrder());
-            
-            // CORREÇÃO: Torna a lógica mais segura para tabelas pequenas.
-            // Retorna apenas os 3 primeiros (ou menos, se não houver 3)
-            return new Integer[]{
-                (tamanhosListas.length > 0 ? tamanhosListas[0] : 0),
-                (tamanhosListas.length > 1 ? tamanhosListas[1] : 0),
-                (tamanhosListas.length > 2 ? tamanhosListas[2] : 0)
-            };
+
+            // Primeira posição com valor >= chave (a lista ligada também insere antes dos iguais)
+            int pos = limiteInferior(balde, n, chave);
+            if (n > 0) colisoes += 1 + pos;
+
+            if (n == balde.length) {
+                balde = Arrays.copyOf(balde, n * 2);
+                baldes[indice] = balde;
+            }
+            System.arraycopy(balde, pos, balde, pos + 1, n - pos);
+            balde[pos] = chave;
+            tamanhos[indice] = n + 1;
+        }
+
+        public boolean contem(int chave) {
+            int indice = funcao.hash(chave, tamanho);
+            int n = tamanhos[indice];
+            if (n == 0) return false;
+            int pos = limiteInferior(baldes[indice], n, chave);
+            return pos < n && baldes[indice][pos] == chave;
+        }
+
+        private static int limiteInferior(int[] v, int n, int chave) {
+            int ini = 0, fim = n;
+            while (ini < fim) {
+                int meio = (ini + fim) >>> 1;
+                if (v[meio] < chave) ini = meio + 1;
+                else fim = meio;
+            }
+            return ini;
+        }
+
+        public long getColisoes() { return colisoes; }
+
+        // Retorna as 3 maiores listas
+        public Integer[] getTop3Listas() {
+            return EstatisticasTabela.top3Listas(tamanho, i -> tamanhos[i]);
         }
 
         // Calcula Menor, Maior e Média de Gap
         public double[] calcularGaps() {
-            int anterior = -1, cont = 0;
-            long soma = 0;
-            int menor = Integer.MAX_VALUE, maior = Integer.MIN_VALUE;
-            
-            // Percorre a tabela e mede o espaço entre baldes ocupados
-            for (int i = 0; i < tamanho; i++) {
-                if (tabela[i].tamanho > 0) {
-                    if (anterior != -1) {
-                        int gap = i - anterior - 1; // gap = espaços livres entre o anterior e o atual
-                        soma += gap;
-                        cont++;
-                        if (gap < menor) menor = gap;
-                        if (gap > maior) maior = gap;
-                    }
-                    anterior = i; // Atualiza a posição do último balde ocupado
+            return EstatisticasTabela.gaps(tamanho, i -> tamanhos[i] > 0);
+        }
+    }
+
+    // Encadeamento com nós em arena (vetores paralelos de int, sem objetos por nó)
+    // - Nó i: chave em chaves[i], próximo nó em proximos[i] (-1 = fim da lista)
+    // - cabeca[b] é o primeiro nó do balde b (-1 = balde vazio)
+    // - A arena cresce em blocos de 2^16 nós: não copia os nós já gravados e só aloca
+    //   quando um bloco enche, então inserir e contem não alocam no caminho comum
+    // - Listas ordenadas: a busca para assim que passa do valor procurado
+    public static class TabelaEncadeadaArena {
+        private static final int FIM = -1;
+        private static final int GRUPO_LOTE = 16;
+        private static final int BITS_BLOCO = 16;
+        private static final int TAMANHO_BLOCO = 1 << BITS_BLOCO;
+        private static final int MASCARA_BLOCO = TAMANHO_BLOCO - 1;
+
+        private final int[] cabeca;
+        private final int[] comprimentos;
+        private final int tamanho;
+        private final FuncaoHash funcao;
+        private int[][] chaves;
+        private int[][] proximos;
+        private int numNos = 0;
+        private long colisoes = 0;
+
+        public TabelaEncadeadaArena(int tamanho, FuncaoHash funcao) {
+            this(tamanho, funcao, TAMANHO_BLOCO);
+        }
+
+        // capacidadeInicial: quantidade de nós pré-alocados (ex.: tamanho do dataset)
+        public TabelaEncadeadaArena(int tamanho, FuncaoHash funcao, int capacidadeInicial) {
+            this.tamanho = tamanho;
+            this.funcao = funcao;
+            this.cabeca = new int[tamanho];
+            this.comprimentos = new int[tamanho];
+            Arrays.fill(cabeca, FIM);
+
+            int blocos = Math.max(1, (capacidadeInicial + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO);
+            this.chaves = new int[blocos][];
+            this.proximos = new int[blocos][];
+            for (int i = 0; i < blocos; i++) {
+                chaves[i] = new int[TAMANHO_BLOCO];
+                proximos[i] = new int[TAMANHO_BLOCO];
+            }
+        }
+
+        private int novoNo(int chave) {
+            int no = numNos++;
+            int bloco = no >>> BITS_BLOCO;
+            if (bloco == chaves.length) {
+                chaves = Arrays.copyOf(chaves, bloco * 2);
+                proximos = Arrays.copyOf(proximos, bloco * 2);
+            }
+            if (chaves[bloco] == null) {
+                chaves[bloco] = new int[TAMANHO_BLOCO];
+                proximos[bloco] = new int[TAMANHO_BLOCO];
+            }
+            chaves[bloco][no & MASCARA_BLOCO] = chave;
+            return no;
+        }
+
+        private int chave(int no) { return chaves[no >>> BITS_BLOCO][no & MASCARA_BLOCO]; }
+        private int proximo(int no) { return proximos[no >>> BITS_BLOCO][no & MASCARA_BLOCO]; }
+        private void ligar(int no, int prox) { proximos[no >>> BITS_BLOCO][no & MASCARA_BLOCO] = prox; }
+
+        public void inserir(int chave) {
+            int indice = funcao.hash(chave, tamanho);
+            int novo = novoNo(chave);
+
+            int atual = cabeca[indice];
+            int anterior = FIM;
+            if (atual != FIM) {
+                colisoes++; // Mesma contagem da TabelaEncadeada
+                while (atual != FIM && chave > chave(atual)) {
+                    colisoes++;
+                    anterior = atual;
+                    atual = proximo(atual);
                 }
             }
-            
-            if (cont == 0) return new double[]{0, 0, 0};
-            return new double[]{menor, maior, ((double) soma) / cont};
+
+            ligar(novo, atual);
+            if (anterior == FIM) cabeca[indice] = novo;
+            else ligar(anterior, novo);
+            comprimentos[indice]++;
+        }
+
+        public boolean contem(int chave) {
+            int atual = cabeca[funcao.hash(chave, tamanho)];
+            while (atual != FIM) {
+                int c = chave(atual);
+                if (c >= chave) return c == chave; // Lista ordenada: passou do valor, não está
+                atual = proximo(atual);
+            }
+            return false;
+        }
+
+        // Busca em lote: calcula os baldes do grupo inteiro, lê as cabeças e depois anda as
+        // listas intercaladas (um nó de cada chave pendente por rodada), para várias faltas de
+        // cache ficarem em andamento ao mesmo tempo. resultado[i] == contem(consulta[i])
+        public void contemLote(int[] consulta, boolean[] resultado) {
+            contemLote(consulta, resultado, GRUPO_LOTE);
+        }
+
+        public void contemLote(int[] consulta, boolean[] resultado, int grupo) {
+            if (grupo < 1) throw new IllegalArgumentException("Grupo inválido: " + grupo);
+            int[] no = new int[grupo], pendentes = new int[grupo];
+
+            for (int base = 0; base < consulta.length; base += grupo) {
+                int m = Math.min(grupo, consulta.length - base);
+
+                // Fase 1: baldes e cabeças das listas
+                for (int j = 0; j < m; j++) no[j] = funcao.hash(consulta[base + j], tamanho);
+                for (int j = 0; j < m; j++) {
+                    no[j] = cabeca[no[j]];
+                    pendentes[j] = j;
+                }
+
+                // Fase 2: um passo em cada lista pendente por rodada
+                int ativos = m;
+                while (ativos > 0) {
+                    for (int a = 0; a < ativos; ) {
+                        int j = pendentes[a];
+                        int atual = no[j];
+                        if (atual == FIM) {
+                            resultado[base + j] = false;
+                            pendentes[a] = pendentes[--ativos];
+                            continue;
+                        }
+                        int c = chave(atual);
+                        if (c >= consulta[base + j]) { // Lista ordenada: achou ou passou do valor
+                            resultado[base + j] = (c == consulta[base + j]);
+                            pendentes[a] = pendentes[--ativos];
+                        } else {
+                            no[j] = proximo(atual);
+                            a++;
+                        }
+                    }
+                }
+            }
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getQuantidade() { return numNos; }
+
+        // Hash perfeito mínimo sobre as chaves da arena (repetidas contam uma vez)
+        public TabelaPerfeita congelar() {
+            int[] c = new int[numNos];
+            for (int no = 0; no < numNos; no++) c[no] = chave(no);
+            return TabelaPerfeita.construir(c, numNos, Runtime.getRuntime().availableProcessors());
+        }
+
+        // Imagem: metadados [tamanho, nós, colisões, assinatura da função] e três seções:
+        // cabeças das listas, chaves e próximos (a arena com os blocos concatenados)
+        static final int MAGIC_IMAGEM = 0x31454854; // "THE1"
+
+        public void salvar(Path arquivo) throws IOException {
+            long[] meta = {tamanho, numNos, colisoes, ImagemTabela.assinatura(funcao, tamanho)};
+            ImagemTabela.salvar(arquivo, MAGIC_IMAGEM, meta, new int[][][] {{cabeca}, chaves, proximos},
+                    new long[] {tamanho, numNos, numNos});
+        }
+
+        // Mapeia a imagem e devolve uma tabela só de leitura que busca direto no arquivo;
+        // a função tem que ser a mesma usada ao salvar
+        public static Imagem carregar(Path arquivo, FuncaoHash funcao, boolean verificarCrc) throws IOException {
+            ImagemTabela imagem = ImagemTabela.carregar(arquivo, MAGIC_IMAGEM, verificarCrc);
+            try {
+                imagem.exigirFormato(4, 3);
+                long tam = imagem.meta[0], nos = imagem.meta[1];
+                if (tam <= 0 || tam != imagem.secoes[0].remaining()
+                        || nos != imagem.secoes[1].remaining() || nos != imagem.secoes[2].remaining())
+                    throw new IOException("Metadados da imagem não conferem com as seções: " + arquivo);
+                return new Imagem(imagem, funcao);
+            } catch (IOException | RuntimeException e) {
+                imagem.close();
+                throw e;
+            }
+        }
+
+        public static class Imagem implements AutoCloseable {
+            private final ImagemTabela imagem;
+            private final IntBuffer cabeca;
+            private final IntBuffer chaves;
+            private final IntBuffer proximos;
+            private final int tamanho;
+            private final int quantidade;
+            private final FuncaoHash funcao;
+
+            private Imagem(ImagemTabela imagem, FuncaoHash funcao) {
+                this.imagem = imagem;
+                this.tamanho = (int) imagem.meta[0];
+                this.quantidade = (int) imagem.meta[1];
+                if (ImagemTabela.assinatura(funcao, tamanho) != imagem.meta[3]) {
+                    imagem.close();
+                    throw new IllegalArgumentException("Função hash diferente da usada ao salvar a imagem");
+                }
+                this.cabeca = imagem.secoes[0];
+                this.chaves = imagem.secoes[1];
+                this.proximos = imagem.secoes[2];
+                this.funcao = funcao;
+            }
+
+            // Mesma busca de TabelaEncadeadaArena.contem, lendo do arquivo mapeado
+            public boolean contem(int chave) {
+                if (!imagem.aberta()) throw new IllegalStateException("Imagem já foi fechada");
+                int atual = cabeca.get(funcao.hash(chave, tamanho));
+                while (atual != FIM) {
+                    int c = chaves.get(atual);
+                    if (c >= chave) return c == chave;
+                    atual = proximos.get(atual);
+                }
+                return false;
+            }
+
+            public int getQuantidade() { return quantidade; }
+            public int getTamanho() { return tamanho; }
+
+            @Override
+            public void close() { imagem.close(); }
+        }
+
+        // Retorna as 3 maiores listas
+        public Integer[] getTop3Listas() {
+            return EstatisticasTabela.top3Listas(tamanho, i -> comprimentos[i]);
+        }
+
+        // Calcula Menor, Maior e Média de Gap
+        public double[] calcularGaps() {
+            return EstatisticasTabela.gaps(tamanho, i -> cabeca[i] != FIM);
+        }
+    }
+
+    // Implementação com Endereçamento Aberto (Rehashing)
+    // - Crescimento automático opcional: ao passar do fator de carga máximo a tabela
+    //   cresce para o próximo primo (~2x) e redistribui os registros
+    // - Na migração incremental a redistribuição é feita aos poucos, a cada operação, e um
+    //   novo crescimento espera a migração pendente terminar
+    // - Modo ROBIN_HOOD: sondagem linear em que a chave mais distante da posição de
+    //   origem toma o lugar da mais próxima; a distância de cada posição fica em distancia[]
+    public static class TabelaEnderecAberto {
+        // Quantidade de posições da tabela antiga migradas a cada operação
+        private static final int PASSO_MIGRACAO = 16;
+
+        private Registro[] tabela;
+        private boolean[] usado;
+        private int[] distancia; // Só no modo ROBIN_HOOD
+        private int tamanho;
+        private int quantidade = 0;
+        private int lapides = 0; // Posições removidas (usado=true, tabela=null) na tabela atual
+        private int limpezas = 0;
+        private double fracaoLapidesMax = 0.2;
+        private long colisoes = 0;
+        private final FuncaoHash f1;
+        private final FuncaoHash f2;
+        private final Modo modo;
+        private final double fatorCargaMax; // <= 0 desativa o crescimento
+        private final boolean migracaoIncremental;
+        // Tamanho potência de 2: índice por máscara, sondagem triangular (QUADRATICO) e passo ímpar (DUPLO)
+        private final boolean potenciaDeDois;
+        private int limiteSondagem = Integer.MAX_VALUE; // Tentativas por inserção (DUPLO/QUADRATICO)
+
+        // Tabela antiga durante a migração incremental (null quando não há migração)
+        private Registro[] tabelaAntiga;
+        private boolean[] usadoAntigo;
+        private int[] distanciaAntiga;
+        private int tamanhoAntigo;
+        private int indiceMigracao;
+
+        // Instrumentação opcional (null quando desligada)
+        private final Instrumentacao instr = Instrumentacao.ATIVO
+                ? new Instrumentacao("enderecamento_aberto", this, TabelaEnderecAberto::getFatorCarga) : null;
+        private int ultimaSondagem; // Colisões da última busca (só com instrumentação)
+
+        private FiltroBloom filtro; // Opcional: rejeita chaves ausentes antes da sondagem
+        private FiltroBloom filtroAntigo; // Filtro de antes do crescimento, consultado até a migração terminar
+
+        public enum Modo { DUPLO, QUADRATICO, ROBIN_HOOD }
+
+        public TabelaEnderecAberto(int tamanho, FuncaoHash f1, FuncaoHash f2, Modo modo) {
+            this(tamanho, f1, f2, modo, 0, false);
+        }
+
+        public TabelaEnderecAberto(int tamanho, FuncaoHash f1, FuncaoHash f2, Modo modo,
+                                   double fatorCargaMax, boolean migracaoIncremental) {
+            this(tamanho, f1, f2, modo, fatorCargaMax, migracaoIncremental, false);
+        }
+
+        // Com potenciaDeDois o tamanho é arredondado para a próxima potência de 2 e cresce dobrando
+        public TabelaEnderecAberto(int tamanho, FuncaoHash f1, FuncaoHash f2, Modo modo,
+                                   double fatorCargaMax, boolean migracaoIncremental, boolean potenciaDeDois) {
+            if (fatorCargaMax > 1) throw new IllegalArgumentException("Fator de carga máximo deve ser <= 1: " + fatorCargaMax);
+            if (potenciaDeDois) {
+                if (tamanho > (1 << 30)) throw new IllegalArgumentException("Tamanho grande demais: " + tamanho);
+                tamanho = Math.max(2, Integer.highestOneBit(tamanho - 1) << 1);
+            }
+            this.potenciaDeDois = potenciaDeDois;
+            this.tamanho = tamanho;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.modo = modo;
+            this.fatorCargaMax = fatorCargaMax;
+            this.migracaoIncremental = migracaoIncremental;
+            this.tabela = new Registro[tamanho];
+            this.usado = new boolean[tamanho];
+            if (modo == Modo.ROBIN_HOOD) this.distancia = new int[tamanho];
+        }
+
+        public boolean inserir(Registro r) {
+            if (tabelaAntiga != null) migrarPassoInsercao();
+            // Com migração pendente o crescimento espera ela terminar (senão teria que concluí-la
+            // de uma vez); o passo da migração na inserção garante que ela acaba antes
+            if (fatorCargaMax > 0 && tabelaAntiga == null && quantidade + 1 > fatorCargaMax * tamanho) crescer();
+            // Tabela cheia: recusa antes de sondar (o Robin Hood já teria trocado residentes de lugar)
+            if (quantidade >= tamanho) {
+                if (fatorCargaMax <= 0) return false;
+                crescer();
+            }
+
+            int limite = limiteSondagem;
+            int i = inserirEm(tabela, usado, distancia, tamanho, r, limite);
+            while (i < 0) {
+                if (fatorCargaMax <= 0) return false; // Tabela cheia ou limite de sondagem
+                // Sequência de sondagem não achou posição livre: cresce e tenta de novo. Com a
+                // tabela quase vazia crescer não adianta (ex.: cópias da mesma chave seguem a mesma
+                // sequência), e com migração pendente crescer teria que concluí-la, então nesses
+                // casos a inserção ignora o limite
+                if (limite != Integer.MAX_VALUE && (quantidade < tamanho / 4 || tabelaAntiga != null))
+                    limite = Integer.MAX_VALUE;
+                else crescer();
+                i = inserirEm(tabela, usado, distancia, tamanho, r, limite);
+            }
+            colisoes += i;
+            quantidade++;
+            if (filtro != null) filtro.adicionar(r.paraInteiro());
+            if (Instrumentacao.ATIVO) instr.insercao(i);
+            return true;
+        }
+
+        public boolean contem(Registro r) {
+            if (filtro == null) return buscar(r);
+            if (!filtro.talvezContem(r.paraInteiro(), filtroAntigo)) return false;
+            boolean achou = buscar(r);
+            if (!achou) filtro.registrarFalsoPositivo();
+            return achou;
+        }
+
+        private boolean buscar(Registro r) {
+            if (tabelaAntiga == null) {
+                boolean achou = buscarEm(tabela, usado, distancia, tamanho, r) >= 0;
+                if (Instrumentacao.ATIVO) instr.busca(ultimaSondagem);
+                return achou;
+            }
+            migrarPasso();
+            // Durante a migração o registro pode estar em qualquer uma das duas tabelas
+            boolean achou = buscarEm(tabela, usado, distancia, tamanho, r) >= 0;
+            int sondagens = ultimaSondagem;
+            if (!achou && tabelaAntiga != null) {
+                achou = buscarEm(tabelaAntiga, usadoAntigo, distanciaAntiga, tamanhoAntigo, r) >= 0;
+                sondagens += ultimaSondagem + 1;
+            }
+            if (Instrumentacao.ATIVO) instr.busca(sondagens);
+            return achou;
+        }
+
+        // Remove uma ocorrência do registro
+        // - ROBIN_HOOD: desloca para trás os registros seguintes (não deixa lápide)
+        // - DUPLO/QUADRATICO: deixa uma lápide (usado=true, tabela=null); quando as lápides
+        //   passam de fracaoLapidesMax do tamanho, a tabela é limpa reinserindo os registros
+        public boolean remover(Registro r) {
+            if (tabelaAntiga != null) migrarPasso();
+
+            int pos = buscarEm(tabela, usado, distancia, tamanho, r);
+            if (pos >= 0) {
+                if (modo == Modo.ROBIN_HOOD) {
+                    removerDeslocando(pos);
+                } else {
+                    tabela[pos] = null;
+                    lapides++;
+                    if (lapides > fracaoLapidesMax * tamanho) limparLapides();
+                }
+                quantidade--;
+                return true;
+            }
+
+            if (tabelaAntiga != null) {
+                // Na tabela antiga vira lápide em qualquer modo: a migração já pula posições nulas
+                // e a distância guardada mantém a parada antecipada do Robin Hood válida
+                pos = buscarEm(tabelaAntiga, usadoAntigo, distanciaAntiga, tamanhoAntigo, r);
+                if (pos >= 0) {
+                    tabelaAntiga[pos] = null;
+                    quantidade--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Backward-shift: puxa uma posição para trás cada registro seguinte que não está em casa
+        private void removerDeslocando(int pos) {
+            int prox = (pos + 1 == tamanho) ? 0 : pos + 1;
+            while (usado[prox] && distancia[prox] > 0) {
+                tabela[pos] = tabela[prox];
+                distancia[pos] = distancia[prox] - 1;
+                pos = prox;
+                prox = (prox + 1 == tamanho) ? 0 : prox + 1;
+            }
+            tabela[pos] = null;
+            usado[pos] = false;
+            distancia[pos] = 0;
+        }
+
+        // Reinsere os registros vivos nos mesmos vetores, descartando as lápides
+        private void limparLapides() {
+            Registro[] vivos = new Registro[tamanho];
+            int n = 0;
+            for (int i = 0; i < tamanho; i++) {
+                if (tabela[i] != null) vivos[n++] = tabela[i];
+                tabela[i] = null;
+                usado[i] = false;
+            }
+            lapides = 0;
+            for (int i = 0; i < n; i++) {
+                if (inserirEm(tabela, usado, distancia, tamanho, vivos[i], Integer.MAX_VALUE) < 0)
+                    throw new IllegalStateException("Falha ao reinserir registro " + vivos[i] + " na limpeza de lápides");
+            }
+            limpezas++;
+            if (filtro != null) reconstruirFiltro(filtro.getBitsPorChave()); // Tira as chaves removidas
+        }
+
+        // Liga o filtro de Bloom (dimensionado para o tamanho atual) e adiciona as chaves já inseridas
+        public FiltroBloom ativarFiltroBloom(double bitsPorChave) {
+            reconstruirFiltro(bitsPorChave);
+            return filtro;
+        }
+
+        private void reconstruirFiltro(double bitsPorChave) {
+            filtro = new FiltroBloom(tamanho, bitsPorChave);
+            filtroAntigo = null;
+            for (Registro[] t : new Registro[][] {tabela, tabelaAntiga}) {
+                if (t == null) continue;
+                for (Registro r : t) if (r != null) filtro.adicionar(r.paraInteiro());
+            }
+        }
+
+        public FiltroBloom getFiltroBloom() { return filtro; }
+
+        // Limita as tentativas de sondagem das inserções (DUPLO/QUADRATICO): ao passar do limite
+        // a inserção falha na hora ou, com crescimento ligado, a tabela cresce até caber. As
+        // buscas não usam o limite (a migração e a limpeza de lápides reinserem sem ele)
+        public void setLimiteSondagem(int limiteSondagem) {
+            if (limiteSondagem < 1) throw new IllegalArgumentException("Limite de sondagem deve ser positivo: " + limiteSondagem);
+            this.limiteSondagem = limiteSondagem;
+        }
+
+        // Posição da i-ésima tentativa (DUPLO/QUADRATICO), em long para não estourar
+        private int posicao(int h1, int h2, long i, int tamanho) {
+            if (potenciaDeDois) {
+                // Passo ímpar / números triangulares i(i+1)/2: visitam todas as posições de uma tabela 2^k
+                if (modo == Modo.DUPLO) return (int) (h1 + i * h2) & (tamanho - 1);
+                return (int) (h1 + ((i * (i + 1)) >>> 1)) & (tamanho - 1);
+            }
+            if (modo == Modo.DUPLO) return (int) Math.floorMod(h1 + i * h2, (long) tamanho);
+            return (int) Math.floorMod(h1 + i + 3 * i * i, (long) tamanho);
+        }
+
+        public void setFracaoLapidesMax(double fracaoLapidesMax) {
+            if (fracaoLapidesMax <= 0 || fracaoLapidesMax > 1)
+                throw new IllegalArgumentException("Fração de lápides deve estar em (0, 1]: " + fracaoLapidesMax);
+            this.fracaoLapidesMax = fracaoLapidesMax;
+        }
+
+        // Retorna o número de colisões até achar a posição livre, ou -1 se não achou
+        // (limiteSondagem: tentativas no DUPLO/QUADRATICO; a migração e a limpeza de lápides
+        // reinserem sem limite, para nunca falhar)
+        private int inserirEm(Registro[] tabela, boolean[] usado, int[] distancia, int tamanho, Registro r,
+                              int limiteSondagem) {
+            int chave = r.paraInteiro();
+            int h1 = f1.hash(chave, tamanho);
+            
+            if (modo == Modo.ROBIN_HOOD) {
+                // Quem chama garante uma posição livre: as trocas abaixo não são desfeitas
+                int pos = h1;
+                int dist = 0; // Distância do registro "em mãos" até a sua posição de origem
+                for (int i = 0; i < tamanho; i++) {
+                    if (!usado[pos]) {
+                        tabela[pos] = r;
+                        usado[pos] = true;
+                        distancia[pos] = dist;
+                        return i;
+                    }
+                    // Quem está mais perto de casa cede a posição e segue a sondagem
+                    if (distancia[pos] < dist) {
+                        Registro residente = tabela[pos];
+                        int distResidente = distancia[pos];
+                        tabela[pos] = r;
+                        distancia[pos] = dist;
+                        r = residente;
+                        dist = distResidente;
+                    }
+                    pos = (pos + 1 == tamanho) ? 0 : pos + 1;
+                    dist++;
+                }
+                return -1;
+            } else if (modo == Modo.DUPLO) {
+                int h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1; // Garante que o passo não seja zero
+                if (potenciaDeDois) h2 |= 1; // Passo ímpar é primo com 2^k
+                int limite = Math.min(tamanho, limiteSondagem);
+                
+                for (int i = 0; i < limite; i++) {
+                    int pos = posicao(h1, h2, i, tamanho);
+                    if (tabela[pos] == null) { // Posição livre ou lápide
+                        if (usado[pos]) lapides--;
+                        tabela[pos] = r;
+                        usado[pos] = true;
+                        return i; // A colisão é contada a partir da primeira tentativa (i=0)
+                    }
+                }
+                return -1;
+            } else { // Probing Quadrático
+                int limite = Math.min(tamanho, limiteSondagem);
+                for (int i = 0; i < limite; i++) {
+                    // Função de probing quadrático: (h1 + c1*i + c2*i^2) mod M. Usando c1=1 e c2=3.
+                    // (triangular h1 + i(i+1)/2 no modo potência de 2)
+                    // O valor i representa o número de colisões antes da inserção
+                    int pos = posicao(h1, 0, i, tamanho);
+                    if (tabela[pos] == null) {
+                        if (usado[pos]) lapides--;
+                        tabela[pos] = r;
+                        usado[pos] = true;
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        }
+
+        // Retorna a posição do registro, ou -1 se não está na tabela
+        private int buscarEm(Registro[] tabela, boolean[] usado, int[] distancia, int tamanho, Registro r) {
+            int chave = r.paraInteiro();
+            int h1 = f1.hash(chave, tamanho);
+            
+            if (modo == Modo.ROBIN_HOOD) {
+                int pos = h1;
+                for (int d = 0; d < tamanho; d++) {
+                    if (!usado[pos]) return sondou(d, -1);
+                    // Se o registro existisse, já teria tomado o lugar de quem está mais perto de casa
+                    if (distancia[pos] < d) return sondou(d, -1);
+                    if (tabela[pos] != null && tabela[pos].equals(r)) return sondou(d, pos);
+                    pos = (pos + 1 == tamanho) ? 0 : pos + 1;
+                }
+                return sondou(tamanho, -1);
+            } else if (modo == Modo.DUPLO) {
+                int h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1;
+                if (potenciaDeDois) h2 |= 1;
+                
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = posicao(h1, h2, i, tamanho);
+                    if (!usado[pos]) return sondou(i, -1); // Parada da busca: posição nunca foi usada
+                    if (tabela[pos] != null && tabela[pos].equals(r)) return sondou(i, pos);
+                }
+                return sondou(tamanho, -1);
+            } else { // Probing Quadrático
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = posicao(h1, 0, i, tamanho);
+                    if (!usado[pos]) return sondou(i, -1);
+                    if (tabela[pos] != null && tabela[pos].equals(r)) return sondou(i, pos);
+                }
+                return sondou(tamanho, -1);
+            }
+        }
+
+        private int sondou(int colisoes, int resultado) {
+            if (Instrumentacao.ATIVO) ultimaSondagem = colisoes;
+            return resultado;
+        }
+
+        // Aloca a nova tabela e redistribui os registros (de uma vez ou aos poucos)
+        private void crescer() {
+            // Só com a tabela nova cheia ou sem posição livre na sondagem sem limite (QUADRATICO
+            // em tamanho primo) durante a migração; nos outros casos inserir espera ela terminar
+            if (tabelaAntiga != null) concluirMigracao();
+
+            tabelaAntiga = tabela;
+            usadoAntigo = usado;
+            distanciaAntiga = distancia;
+            tamanhoAntigo = tamanho;
+            indiceMigracao = 0;
+
+            tamanho = potenciaDeDois ? 2 * tamanho : HashUtils.proximoPrimo(2 * tamanho);
+            tabela = new Registro[tamanho];
+            usado = new boolean[tamanho];
+            if (modo == Modo.ROBIN_HOOD) distancia = new int[tamanho];
+            lapides = 0; // As lápides da tabela antiga somem com a migração
+            if (filtro != null) {
+                // O filtro novo recebe as chaves conforme os registros são migrados
+                filtroAntigo = filtro;
+                filtro = new FiltroBloom(tamanho, filtro.getBitsPorChave());
+            }
+
+            if (!migracaoIncremental) concluirMigracao();
+        }
+
+        // Move as próximas PASSO_MIGRACAO posições da tabela antiga para a nova
+        private void migrarPasso() {
+            int fim = Math.min(indiceMigracao + PASSO_MIGRACAO, tamanhoAntigo);
+            migrarAte(fim);
+        }
+
+        // Na inserção o passo também cresce com a carga: a tabela antiga esvazia antes de a
+        // nova chegar ao fator de carga máximo (restantes / inserções que ainda cabem)
+        private void migrarPassoInsercao() {
+            int restantes = tamanhoAntigo - indiceMigracao;
+            long folga = Math.max(1, (long) (fatorCargaMax * tamanho) - quantidade);
+            long passo = Math.max(PASSO_MIGRACAO, (restantes + folga - 1) / folga);
+            migrarAte((int) Math.min(indiceMigracao + passo, tamanhoAntigo));
+        }
+
+        private void concluirMigracao() {
+            if (tabelaAntiga != null) migrarAte(tamanhoAntigo);
+        }
+
+        private void migrarAte(int fim) {
+            for (int j = indiceMigracao; j < fim; j++) {
+                Registro r = tabelaAntiga[j];
+                if (r != null) {
+                    if (inserirEm(tabela, usado, distancia, tamanho, r, Integer.MAX_VALUE) < 0)
+                        throw new IllegalStateException("Falha ao migrar registro " + r + " para tabela de tamanho " + tamanho);
+                    if (filtroAntigo != null) filtro.adicionar(r.paraInteiro());
+                    // Mantém 'usado' (e a distância) na tabela antiga para não quebrar as sequências de sondagem
+                    tabelaAntiga[j] = null;
+                }
+            }
+            indiceMigracao = fim;
+            if (indiceMigracao >= tamanhoAntigo) {
+                tabelaAntiga = null;
+                usadoAntigo = null;
+                distanciaAntiga = null;
+                filtroAntigo = null;
+            }
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getQuantidade() { return quantidade; }
+        public int getTamanho() { return tamanho; }
+        public double getFatorCarga() { return (double) quantidade / tamanho; }
+        public int getLapides() { return lapides; }
+        public int getLimpezas() { return limpezas; }
+
+        // Maior distância de sondagem entre os registros armazenados (modo ROBIN_HOOD)
+        public int getDistanciaMaxima() {
+            if (modo != Modo.ROBIN_HOOD) throw new IllegalStateException("Distância só é registrada no modo ROBIN_HOOD");
+            concluirMigracao();
+            int maior = 0;
+            for (int i = 0; i < tamanho; i++)
+                if (tabela[i] != null && distancia[i] > maior) maior = distancia[i];
+            return maior;
+        }
+
+        // Distância média de sondagem entre os registros armazenados (modo ROBIN_HOOD)
+        public double getDistanciaMedia() {
+            if (modo != Modo.ROBIN_HOOD) throw new IllegalStateException("Distância só é registrada no modo ROBIN_HOOD");
+            concluirMigracao();
+            long soma = 0;
+            int cont = 0;
+            for (int i = 0; i < tamanho; i++) {
+                if (tabela[i] != null) {
+                    soma += distancia[i];
+                    cont++;
+                }
+            }
+            return cont == 0 ? 0 : (double) soma / cont;
+        }
+
+        public double[] calcularGaps() {
+            concluirMigracao();
+            return EstatisticasTabela.gaps(tamanho, i -> usado[i]);
+        }
+    }
+
+    // Endereçamento Aberto especializado para chaves int
+    // - Não cria Registro/String: as chaves ficam direto em um int[]
+    // - Posição vazia marcada pela sentinela VAZIO (códigos válidos são >= 0)
+    public static class TabelaEnderecAbertoInt {
+        public static final int VAZIO = -1;
+        private static final int GRUPO_LOTE = 16;
+
+        private final int[] chaves;
+        private final int tamanho;
+        private int quantidade = 0;
+        private long colisoes = 0;
+        private final FuncaoHash f1;
+        private final FuncaoHash f2;
+        private final TabelaEnderecAberto.Modo modo;
+
+        public TabelaEnderecAbertoInt(int tamanho, FuncaoHash f1, FuncaoHash f2, TabelaEnderecAberto.Modo modo) {
+            if (modo == TabelaEnderecAberto.Modo.ROBIN_HOOD)
+                throw new IllegalArgumentException("Modo não suportado na tabela int: " + modo);
+            this.tamanho = tamanho;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.modo = modo;
+            this.chaves = new int[tamanho];
+            Arrays.fill(chaves, VAZIO);
+        }
+
+        public boolean inserir(int chave) {
+            if (chave < 0) throw new IllegalArgumentException("Chave negativa: " + chave);
+            int h1 = f1.hash(chave, tamanho);
+
+            if (modo == TabelaEnderecAberto.Modo.DUPLO) {
+                int h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1; // Garante que o passo não seja zero
+
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho);
+                    if (chaves[pos] == VAZIO) {
+                        chaves[pos] = chave;
+                        colisoes += i;
+                        quantidade++;
+                        return true;
+                    }
+                }
+                return false;
+            } else { // Probing Quadrático (mesmos coeficientes c1=1 e c2=3)
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+                    if (chaves[pos] == VAZIO) {
+                        chaves[pos] = chave;
+                        colisoes += i;
+                        quantidade++;
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+        public boolean contem(int chave) {
+            int h1 = f1.hash(chave, tamanho);
+
+            if (modo == TabelaEnderecAberto.Modo.DUPLO) {
+                int h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1;
+
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho);
+                    int atual = chaves[pos];
+                    if (atual == VAZIO) return false;
+                    if (atual == chave) return true;
+                }
+                return false;
+            } else { // Probing Quadrático
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+                    int atual = chaves[pos];
+                    if (atual == VAZIO) return false;
+                    if (atual == chave) return true;
+                }
+                return false;
+            }
+        }
+
+        // Busca em lote: as chaves são processadas em grupos; primeiro saem as posições iniciais
+        // do grupo inteiro, depois as sondagens avançam intercaladas (uma posição de cada chave
+        // pendente por rodada). Assim as faltas de cache das chaves do grupo acontecem ao mesmo
+        // tempo, em vez de cada busca esperar a anterior. resultado[i] == contem(consulta[i])
+        public void contemLote(int[] consulta, boolean[] resultado) {
+            contemLote(consulta, resultado, GRUPO_LOTE);
+        }
+
+        public void contemLote(int[] consulta, boolean[] resultado, int grupo) {
+            if (grupo < 1) throw new IllegalArgumentException("Grupo inválido: " + grupo);
+            boolean duplo = (modo == TabelaEnderecAberto.Modo.DUPLO);
+            int[] h1 = new int[grupo], h2 = new int[grupo], pos = new int[grupo];
+            int[] tentativa = new int[grupo], pendentes = new int[grupo];
+
+            for (int base = 0; base < consulta.length; base += grupo) {
+                int m = Math.min(grupo, consulta.length - base);
+
+                // Fase 1: posições iniciais do grupo
+                for (int j = 0; j < m; j++) {
+                    int chave = consulta[base + j];
+                    h1[j] = f1.hash(chave, tamanho);
+                    if (duplo) {
+                        int passo = f2.hash(chave, tamanho);
+                        h2[j] = (passo == 0) ? 1 : passo;
+                    }
+                    tentativa[j] = 0;
+                    pos[j] = posicaoLote(duplo, h1[j], h2[j], 0);
+                    pendentes[j] = j;
+                }
+
+                // Fase 2: sondagens intercaladas; quem termina sai da lista de pendentes
+                int ativos = m;
+                while (ativos > 0) {
+                    for (int a = 0; a < ativos; ) {
+                        int j = pendentes[a];
+                        int chave = consulta[base + j];
+                        int atual = chaves[pos[j]];
+                        if (atual == VAZIO || atual == chave || ++tentativa[j] >= tamanho) {
+                            resultado[base + j] = (atual != VAZIO && atual == chave);
+                            pendentes[a] = pendentes[--ativos];
+                        } else {
+                            pos[j] = posicaoLote(duplo, h1[j], h2[j], tentativa[j]);
+                            a++;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Mesma sequência de contem(): Hash Duplo ou quadrático com c1=1 e c2=3
+        private int posicaoLote(boolean duplo, int h1, int h2, int i) {
+            return duplo ? (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho)
+                         : (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getQuantidade() { return quantidade; }
+
+        // Hash perfeito mínimo sobre as chaves atuais (a tabela continua valendo; a congelada é uma cópia)
+        public TabelaPerfeita congelar() {
+            int[] c = new int[quantidade];
+            int n = 0;
+            for (int k : chaves) if (k != VAZIO) c[n++] = k;
+            return TabelaPerfeita.construir(c, n, Runtime.getRuntime().availableProcessors());
+        }
+
+        // Imagem: metadados [modo, tamanho, quantidade, colisões, assinatura f1, assinatura f2]
+        // e uma seção com o vetor de chaves
+        static final int MAGIC_IMAGEM = 0x31414854; // "THA1"
+
+        public void salvar(Path arquivo) throws IOException {
+            long[] meta = {modo.ordinal(), tamanho, quantidade, colisoes,
+                    ImagemTabela.assinatura(f1, tamanho), ImagemTabela.assinatura(f2, tamanho)};
+            ImagemTabela.salvar(arquivo, MAGIC_IMAGEM, meta, new int[][][] {{chaves}}, new long[] {tamanho});
+        }
+
+        // Mapeia a imagem e devolve uma tabela só de leitura que busca direto no arquivo;
+        // f1 e f2 têm que ser as mesmas funções usadas ao salvar
+        public static Imagem carregar(Path arquivo, FuncaoHash f1, FuncaoHash f2, boolean verificarCrc) throws IOException {
+            ImagemTabela imagem = ImagemTabela.carregar(arquivo, MAGIC_IMAGEM, verificarCrc);
+            try {
+                imagem.exigirFormato(6, 1);
+                long modo = imagem.meta[0], tam = imagem.meta[1], qtd = imagem.meta[2];
+                if ((modo != TabelaEnderecAberto.Modo.DUPLO.ordinal() && modo != TabelaEnderecAberto.Modo.QUADRATICO.ordinal())
+                        || tam <= 0 || tam != imagem.secoes[0].remaining() || qtd < 0 || qtd > tam)
+                    throw new IOException("Metadados da imagem não conferem com as seções: " + arquivo);
+                return new Imagem(imagem, f1, f2);
+            } catch (IOException | RuntimeException e) {
+                imagem.close();
+                throw e;
+            }
+        }
+
+        public static class Imagem implements AutoCloseable {
+            private final ImagemTabela imagem;
+            private final IntBuffer chaves;
+            private final int tamanho;
+            private final int quantidade;
+            private final FuncaoHash f1;
+            private final FuncaoHash f2;
+            private final TabelaEnderecAberto.Modo modo;
+
+            private Imagem(ImagemTabela imagem, FuncaoHash f1, FuncaoHash f2) {
+                this.imagem = imagem;
+                this.modo = TabelaEnderecAberto.Modo.values()[(int) imagem.meta[0]];
+                this.tamanho = (int) imagem.meta[1];
+                this.quantidade = (int) imagem.meta[2];
+                if (ImagemTabela.assinatura(f1, tamanho) != imagem.meta[4]
+                        || (modo == TabelaEnderecAberto.Modo.DUPLO && ImagemTabela.assinatura(f2, tamanho) != imagem.meta[5])) {
+                    imagem.close();
+                    throw new IllegalArgumentException("Funções hash diferentes das usadas ao salvar a imagem");
+                }
+                this.chaves = imagem.secoes[0];
+                this.f1 = f1;
+                this.f2 = f2;
+            }
+
+            // Mesma sondagem de TabelaEnderecAbertoInt.contem, lendo do arquivo mapeado
+            public boolean contem(int chave) {
+                if (!imagem.aberta()) throw new IllegalStateException("Imagem já foi fechada");
+                int h1 = f1.hash(chave, tamanho);
+                int h2 = 0;
+                if (modo == TabelaEnderecAberto.Modo.DUPLO) {
+                    h2 = f2.hash(chave, tamanho);
+                    if (h2 == 0) h2 = 1;
+                }
+                for (int i = 0; i < tamanho; i++) {
+                    int pos = (modo == TabelaEnderecAberto.Modo.DUPLO)
+                            ? (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho)
+                            : (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+                    int atual = chaves.get(pos);
+                    if (atual == VAZIO) return false;
+                    if (atual == chave) return true;
+                }
+                return false;
+            }
+
+            public int getQuantidade() { return quantidade; }
+            public int getTamanho() { return tamanho; }
+
+            @Override
+            public void close() { imagem.close(); }
+        }
+
+        public double[] calcularGaps() {
+            return EstatisticasTabela.gaps(tamanho, i -> chaves[i] != VAZIO);
+        }
+    }
+
+    // Endereçamento Aberto com as posições fora do heap (DUPLO ou QUADRATICO)
+    // - Só as chaves int ficam na memória, em ByteBuffers diretos (páginas de 2^26 posições
+    //   = 256 MB): o GC não percorre a tabela e ela não ocupa o heap. Os índices continuam
+    //   int (a FuncaoHash recebe o tamanho como int), então o limite é o mesmo de um int[]
+    // - A API de memória externa (MemorySegment/Arena) ainda é preview no JDK 21, então a
+    //   memória vem de ByteBuffer.allocateDirect; close() libera as páginas na hora
+    // - VAZIO = -1 marca posição livre, como na TabelaEnderecAbertoInt
+    public static class TabelaEnderecAbertoForaHeap implements AutoCloseable {
+        public static final int VAZIO = -1;
+        private static final int BITS_PAGINA = 26;
+        private static final int MASCARA_PAGINA = (1 << BITS_PAGINA) - 1;
+
+        private ByteBuffer[] paginas;
+        private final int tamanho;
+        private long colisoes = 0;
+        private final FuncaoHash f1;
+        private final FuncaoHash f2;
+        private final TabelaEnderecAberto.Modo modo;
+
+        public TabelaEnderecAbertoForaHeap(int tamanho, FuncaoHash f1, FuncaoHash f2, TabelaEnderecAberto.Modo modo) {
+            if (modo == TabelaEnderecAberto.Modo.ROBIN_HOOD)
+                throw new IllegalArgumentException("Modo não suportado na tabela fora do heap: " + modo);
+            this.tamanho = tamanho;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.modo = modo;
+
+            int numPaginas = (int) (((long) tamanho + MASCARA_PAGINA) >>> BITS_PAGINA);
+            paginas = new ByteBuffer[numPaginas];
+            int[] vazios = new int[4096];
+            Arrays.fill(vazios, VAZIO);
+            for (int p = 0; p < numPaginas; p++) {
+                int posicoes = (int) Math.min(1L << BITS_PAGINA, tamanho - ((long) p << BITS_PAGINA));
+                paginas[p] = ByteBuffer.allocateDirect(posicoes * 4).order(ByteOrder.nativeOrder());
+                IntBuffer ib = paginas[p].asIntBuffer();
+                while (ib.hasRemaining()) ib.put(vazios, 0, Math.min(vazios.length, ib.remaining()));
+            }
+        }
+
+        private int ler(int pos) {
+            return paginas[pos >>> BITS_PAGINA].getInt((pos & MASCARA_PAGINA) << 2);
+        }
+
+        private void escrever(int pos, int chave) {
+            paginas[pos >>> BITS_PAGINA].putInt((pos & MASCARA_PAGINA) << 2, chave);
+        }
+
+        private int posicao(int h1, int h2, int i) {
+            return (modo == TabelaEnderecAberto.Modo.DUPLO)
+                    ? (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho)
+                    : (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+        }
+
+        public boolean inserir(int chave) {
+            if (chave < 0) throw new IllegalArgumentException("Chave negativa: " + chave);
+            if (paginas == null) throw new IllegalStateException("Tabela já foi fechada");
+            int h1 = f1.hash(chave, tamanho);
+            int h2 = 0;
+            if (modo == TabelaEnderecAberto.Modo.DUPLO) {
+                h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1; // Garante que o passo não seja zero
+            }
+
+            for (int i = 0; i < tamanho; i++) {
+                int pos = posicao(h1, h2, i);
+                if (ler(pos) == VAZIO) {
+                    escrever(pos, chave);
+                    colisoes += i;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean contem(int chave) {
+            if (paginas == null) throw new IllegalStateException("Tabela já foi fechada");
+            int h1 = f1.hash(chave, tamanho);
+            int h2 = 0;
+            if (modo == TabelaEnderecAberto.Modo.DUPLO) {
+                h2 = f2.hash(chave, tamanho);
+                if (h2 == 0) h2 = 1;
+            }
+
+            for (int i = 0; i < tamanho; i++) {
+                int atual = ler(posicao(h1, h2, i));
+                if (atual == VAZIO) return false;
+                if (atual == chave) return true;
+            }
+            return false;
+        }
+
+        public long getColisoes() { return colisoes; }
+        public long getBytesForaHeap() { return (long) tamanho * 4; }
+
+        public double[] calcularGaps() {
+            if (paginas == null) throw new IllegalStateException("Tabela já foi fechada");
+            return EstatisticasTabela.gaps(tamanho, i -> ler(i) != VAZIO);
+        }
+
+        // Libera as páginas sem esperar o GC (ver liberarBuffer)
+        @Override
+        public void close() {
+            if (paginas == null) return;
+            for (ByteBuffer p : paginas) liberarBuffer(p);
+            paginas = null;
+        }
+    }
+
+    // Imagem binária das tabelas int (salvar/carregar), consultada direto do arquivo mapeado
+    // - Layout little-endian: magic, versão, nº de metadados, nº de seções, CRC32, metadados
+    //   (long), tamanho de cada seção (em ints) e as seções de int, a partir de um múltiplo de
+    //   64 bytes. O CRC32 cobre as seções e depois o cabeçalho inteiro (menos o próprio campo)
+    // - carregar() confere os campos do cabeçalho contra o tamanho do arquivo antes de criar
+    //   as visões; depois de close() as visões recusam buscas (o mapeamento já foi desfeito)
+    // - carregar() só mapeia o arquivo e cria visões IntBuffer das seções: não há passo de
+    //   desserialização, o custo é o das páginas lidas sob demanda
+    // - Conferir o CRC32 lê o arquivo inteiro, por isso é opcional
+    static class ImagemTabela implements AutoCloseable {
+        static final int VERSAO = 1;
+        private static final int ALINHAMENTO = 64;
+        private static final int MAX_CAMPOS = 64; // Limite de metadados/seções aceito ao carregar
+
+        final long[] meta;
+        final IntBuffer[] secoes;
+        private MappedByteBuffer mapa;
+
+        private ImagemTabela(MappedByteBuffer mapa, long[] meta, IntBuffer[] secoes) {
+            this.mapa = mapa;
+            this.meta = meta;
+            this.secoes = secoes;
+        }
+
+        // Cada seção é uma lista de vetores (ex.: os blocos da arena) com 'comprimentos[s]' ints no total
+        static void salvar(Path arquivo, int magic, long[] meta, int[][][] secoes, long[] comprimentos) throws IOException {
+            int inicioDados = inicioDados(meta.length, secoes.length);
+            CRC32 crc = new CRC32();
+            ByteBuffer buf = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                canal.position(inicioDados);
+                for (int s = 0; s < secoes.length; s++) {
+                    long restante = comprimentos[s];
+                    for (int[] parte : secoes[s]) {
+                        int n = (int) Math.min(restante, parte.length);
+                        for (int i = 0; i < n; i++) {
+                            if (!buf.hasRemaining()) descarregar(canal, buf, crc);
+                            buf.putInt(parte[i]);
+                        }
+                        restante -= n;
+                        if (restante == 0) break;
+                    }
+                    if (restante != 0) throw new IllegalArgumentException("Seção " + s + " menor que " + comprimentos[s]);
+                }
+                descarregar(canal, buf, crc);
+
+                ByteBuffer cab = ByteBuffer.allocate(inicioDados).order(ByteOrder.LITTLE_ENDIAN);
+                cab.putInt(magic).putInt(VERSAO).putInt(meta.length).putInt(secoes.length).putLong(0);
+                for (long m : meta) cab.putLong(m);
+                for (long c : comprimentos) cab.putLong(c);
+                atualizarCrcCabecalho(crc, cab, inicioDados);
+                cab.putLong(16, crc.getValue());
+                cab.clear();
+                while (cab.hasRemaining()) canal.write(cab, cab.position());
+            }
+        }
+
+        private static void descarregar(FileChannel canal, ByteBuffer buf, CRC32 crc) throws IOException {
+            buf.flip();
+            crc.update(buf.duplicate());
+            while (buf.hasRemaining()) canal.write(buf);
+            buf.clear();
+        }
+
+        // Cabeçalho sem o campo do CRC (bytes 16..23), incluindo o preenchimento até os dados
+        private static void atualizarCrcCabecalho(CRC32 crc, ByteBuffer cabecalho, int inicioDados) {
+            crc.update(cabecalho.slice(0, 16));
+            crc.update(cabecalho.slice(24, inicioDados - 24));
+        }
+
+        private static int inicioDados(int numMeta, int numSecoes) {
+            int cabecalho = 4 + 4 + 4 + 4 + 8 + 8 * numMeta + 8 * numSecoes;
+            return (cabecalho + ALINHAMENTO - 1) / ALINHAMENTO * ALINHAMENTO;
+        }
+
+        static ImagemTabela carregar(Path arquivo, int magic, boolean verificarCrc) throws IOException {
+            MappedByteBuffer mapa;
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                if (canal.size() > Integer.MAX_VALUE)
+                    throw new IOException("Imagem maior que 2 GB não cabe em um mapeamento: " + arquivo);
+                mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            }
+            try {
+                return ler(mapa, arquivo, magic, verificarCrc);
+            } catch (IOException | RuntimeException e) {
+                liberarBuffer(mapa);
+                throw e;
+            }
+        }
+
+        private static ImagemTabela ler(MappedByteBuffer mapa, Path arquivo, int magic, boolean verificarCrc) throws IOException {
+            mapa.order(ByteOrder.LITTLE_ENDIAN);
+            int limite = mapa.limit();
+            if (limite < 24 || mapa.getInt(0) != magic)
+                throw new IOException("Arquivo não é uma imagem desta tabela: " + arquivo);
+            if (mapa.getInt(4) != VERSAO)
+                throw new IOException("Versão de imagem não suportada: " + mapa.getInt(4));
+            int numMeta = mapa.getInt(8);
+            int numSecoes = mapa.getInt(12);
+            if (numMeta < 0 || numMeta > MAX_CAMPOS || numSecoes < 0 || numSecoes > MAX_CAMPOS)
+                throw new IOException("Cabeçalho inválido (" + numMeta + " metadados, " + numSecoes + " seções): " + arquivo);
+            int inicio = inicioDados(numMeta, numSecoes);
+            if (inicio > limite) throw new IOException("Imagem truncada: " + arquivo);
+            long crcEsperado = mapa.getLong(16);
+
+            long[] meta = new long[numMeta];
+            for (int i = 0; i < numMeta; i++) meta[i] = mapa.getLong(24 + 8 * i);
+            IntBuffer[] secoes = new IntBuffer[numSecoes];
+            int pos = inicio;
+            for (int s = 0; s < numSecoes; s++) {
+                long ints = mapa.getLong(24 + 8 * numMeta + 8 * s);
+                if (ints < 0 || ints > (limite - pos) / 4) throw new IOException("Imagem truncada: " + arquivo);
+                secoes[s] = mapa.slice(pos, (int) (4 * ints)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                pos += (int) (4 * ints);
+            }
+            if (pos != limite) throw new IOException("Tamanho da imagem não confere com o cabeçalho: " + arquivo);
+
+            if (verificarCrc) {
+                CRC32 crc = new CRC32();
+                crc.update(mapa.slice(inicio, pos - inicio));
+                atualizarCrcCabecalho(crc, mapa, inicio);
+                if (crc.getValue() != crcEsperado) throw new IOException("Imagem corrompida (CRC32 não confere): " + arquivo);
+            }
+            return new ImagemTabela(mapa, meta, secoes);
+        }
+
+        // Confere o formato que cada tabela espera (quantidade de metadados e de seções)
+        void exigirFormato(int numMeta, int numSecoes) throws IOException {
+            if (meta.length != numMeta || secoes.length != numSecoes)
+                throw new IOException("Imagem com " + meta.length + " metadados e " + secoes.length
+                        + " seções; esperado " + numMeta + " e " + numSecoes);
+        }
+
+        boolean aberta() { return mapa != null; }
+
+        // Resumo da função hash para o tamanho dado: carregar com outra função daria buscas erradas
+        static long assinatura(FuncaoHash f, int tamanho) {
+            if (f == null) return 0;
+            long h = 0;
+            for (int k = 0; k < 16; k++) h = h * 31 + f.hash(k * 61_728_395 + 7, tamanho);
+            return h;
+        }
+
+        @Override
+        public void close() {
+            if (mapa == null) return;
+            liberarBuffer(mapa);
+            mapa = null;
+        }
+    }
+
+    // Cuckoo Hashing com baldes de 4 posições e stash
+    // - Cada chave tem dois baldes possíveis (um por função hash); a busca olha no máximo
+    //   esses dois baldes (16 bytes cada) e o stash
+    // - Na inserção, se os dois baldes estão cheios, uma chave é expulsa para o seu balde
+    //   alternativo; se o ciclo não termina, a chave vai para o stash
+    // - Com o stash cheio a tabela é refeita com novas sementes (e cresce se estiver carregada)
+    // - Guarda cada código uma única vez (inserir de chave repetida retorna false)
+    public static class TabelaCuckoo {
+        public static final int VAZIO = -1;
+        private static final int POSICOES_POR_BALDE = 4;
+        private static final int TAMANHO_STASH = 8;
+        private static final int MAX_DESLOCAMENTOS = 500;
+        private static final double FATOR_CARGA_REHASH = 0.9; // Acima disso o rehash também cresce
+
+        private int[] posicoes;
+        private int numBaldes;
+        private final int[] stash = new int[TAMANHO_STASH];
+        private int quantidadeStash = 0;
+        private int quantidade = 0;
+        private long colisoes = 0; // Deslocamentos (chaves expulsas) nas inserções
+        private int rehashes = 0;
+        private final FuncaoHash f1;
+        private final FuncaoHash f2;
+        private int semente1;
+        private int semente2;
+        private final Random aleatorio;
+        private int pendente = VAZIO; // Chave que sobrou de uma inserção que falhou
+
+        public TabelaCuckoo(int tamanho, FuncaoHash f1, FuncaoHash f2, long seed) {
+            this.f1 = f1;
+            this.f2 = f2;
+            this.aleatorio = new Random(seed);
+            this.semente1 = aleatorio.nextInt();
+            this.semente2 = aleatorio.nextInt();
+            this.numBaldes = Math.max(2, (tamanho + POSICOES_POR_BALDE - 1) / POSICOES_POR_BALDE);
+            this.posicoes = new int[numBaldes * POSICOES_POR_BALDE];
+            Arrays.fill(posicoes, VAZIO);
+        }
+
+        private int balde1(int chave) {
+            return Math.floorMod(f1.hash(HashUtils.misturar(chave, semente1), numBaldes), numBaldes);
+        }
+
+        private int balde2(int chave, int b1) {
+            int b2 = Math.floorMod(f2.hash(HashUtils.misturar(chave, semente2), numBaldes), numBaldes);
+            return (b2 == b1) ? (b1 + 1) % numBaldes : b2; // Os dois baldes precisam ser diferentes
+        }
+
+        public boolean inserir(int chave) {
+            if (chave < 0) throw new IllegalArgumentException("Chave negativa: " + chave);
+            if (contem(chave)) return false;
+            // Ciclo sem saída e stash cheio: o rehash recoloca todas as chaves, inclusive a que sobrou
+            if (!inserirSemRepeticao(chave)) refazer();
+            quantidade++;
+            return true;
+        }
+
+        // Retorna false só quando a chave (ou a última expulsa) não coube nem no stash
+        private boolean inserirSemRepeticao(int chave) {
+            int b = balde1(chave);
+            if (colocarNoBalde(b, chave)) return true;
+            int alt = balde2(chave, b);
+            if (colocarNoBalde(alt, chave)) return true;
+
+            // Os dois baldes estão cheios: expulsa chaves de forma aleatória até achar espaço
+            b = aleatorio.nextBoolean() ? b : alt;
+            for (int i = 0; i < MAX_DESLOCAMENTOS; i++) {
+                int pos = b * POSICOES_POR_BALDE + aleatorio.nextInt(POSICOES_POR_BALDE);
+                int expulsa = posicoes[pos];
+                posicoes[pos] = chave;
+                chave = expulsa;
+                colisoes++;
+
+                int b1 = balde1(chave);
+                b = (b1 == b) ? balde2(chave, b1) : b1; // Balde alternativo da chave expulsa
+                if (colocarNoBalde(b, chave)) return true;
+            }
+
+            if (quantidadeStash < TAMANHO_STASH) {
+                stash[quantidadeStash++] = chave;
+                return true;
+            }
+            // A chave em mãos ainda não está na tabela; fica guardada para o rehash
+            pendente = chave;
+            return false;
+        }
+
+        private boolean colocarNoBalde(int b, int chave) {
+            int inicio = b * POSICOES_POR_BALDE;
+            for (int j = inicio; j < inicio + POSICOES_POR_BALDE; j++) {
+                if (posicoes[j] == VAZIO) {
+                    posicoes[j] = chave;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Sorteia novas sementes e reinsere tudo; cresce se a carga estiver alta
+        // ou se várias tentativas seguidas falharem
+        private void refazer() {
+            int[] todas = new int[quantidade + quantidadeStash + 1];
+            int n = 0;
+            for (int chave : posicoes) if (chave != VAZIO) todas[n++] = chave;
+            for (int i = 0; i < quantidadeStash; i++) todas[n++] = stash[i];
+            if (pendente != VAZIO) todas[n++] = pendente;
+            pendente = VAZIO;
+
+            boolean crescer = (double) n / posicoes.length > FATOR_CARGA_REHASH;
+            for (int tentativa = 1; ; tentativa++) {
+                rehashes++;
+                if (crescer || tentativa % 4 == 0) numBaldes = numBaldes * 2;
+                crescer = false;
+                semente1 = aleatorio.nextInt();
+                semente2 = aleatorio.nextInt();
+                posicoes = new int[numBaldes * POSICOES_POR_BALDE];
+                Arrays.fill(posicoes, VAZIO);
+                quantidadeStash = 0;
+
+                boolean ok = true;
+                for (int i = 0; i < n && ok; i++) ok = inserirSemRepeticao(todas[i]);
+                if (ok) return;
+                pendente = VAZIO;
+            }
+        }
+
+        public boolean contem(int chave) {
+            if (chave < 0) return false; // VAZIO (-1) marca posição livre; nenhuma chave válida é negativa
+            int b1 = balde1(chave);
+            int inicio = b1 * POSICOES_POR_BALDE;
+            for (int j = inicio; j < inicio + POSICOES_POR_BALDE; j++)
+                if (posicoes[j] == chave) return true;
+
+            inicio = balde2(chave, b1) * POSICOES_POR_BALDE;
+            for (int j = inicio; j < inicio + POSICOES_POR_BALDE; j++)
+                if (posicoes[j] == chave) return true;
+
+            for (int i = 0; i < quantidadeStash; i++)
+                if (stash[i] == chave) return true;
+            return false;
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getRehashes() { return rehashes; }
+        public int getQuantidade() { return quantidade; }
+        public int getQuantidadeStash() { return quantidadeStash; }
+        public int getTamanho() { return posicoes.length; }
+        public double getFatorCarga() { return (double) quantidade / posicoes.length; }
+
+        public double[] calcularGaps() {
+            return EstatisticasTabela.gaps(posicoes.length, i -> posicoes[i] != VAZIO);
+        }
+    }
+
+    // Tabela no estilo SwissTable: um byte de controle por posição
+    // - Controle: VAZIO (0x80), APAGADO (0xFE) ou os 7 bits baixos do hash (H2) se ocupada
+    // - As posições são agrupadas de 16 em 16; o grupo inicial vem da FuncaoHash (H1) e a
+    //   sondagem entre grupos é triangular (visita todos os grupos, pois são potência de 2)
+    // - Os 16 bytes de controle do grupo são lidos como dois long, e cada long compara seus 8
+    //   bytes com H2 de uma vez (SWAR): dois passos de 64 bits por grupo, não uma comparação
+    //   de 16 bytes; só as posições cujo byte bate têm a chave comparada
+    // - Guarda cada código uma única vez (inserir de chave repetida retorna false)
+    public static class TabelaSwiss {
+        private static final int TAMANHO_GRUPO = 16;
+        private static final byte VAZIO = (byte) 0x80;
+        private static final byte APAGADO = (byte) 0xFE;
+        private static final long BYTES_01 = 0x0101010101010101L;
+        private static final long BYTES_80 = 0x8080808080808080L;
+        private static final VarHandle LONG_LE =
+                MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+        private byte[] controle;
+        private int[] chaves;
+        private int numGrupos;
+        private int quantidade = 0;
+        private int apagados = 0;
+        private long colisoes = 0; // Grupos extras visitados nas inserções
+        private final FuncaoHash funcao;
+
+        public TabelaSwiss(int tamanho, FuncaoHash funcao) {
+            this.funcao = funcao;
+            int grupos = Math.max(1, (tamanho + TAMANHO_GRUPO - 1) / TAMANHO_GRUPO);
+            alocar(Integer.highestOneBit(grupos) == grupos ? grupos : Integer.highestOneBit(grupos) << 1);
+        }
+
+        private void alocar(int numGrupos) {
+            this.numGrupos = numGrupos;
+            this.controle = new byte[numGrupos * TAMANHO_GRUPO];
+            this.chaves = new int[numGrupos * TAMANHO_GRUPO];
+            Arrays.fill(controle, VAZIO);
+            this.apagados = 0;
+        }
+
+        private int grupoInicial(int chave) {
+            return Math.floorMod(funcao.hash(chave, numGrupos), numGrupos);
+        }
+
+        private static byte h2(int chave) {
+            return (byte) (HashUtils.misturar(chave, 0) >>> 25);
+        }
+
+        // Bit 7 ligado em cada byte igual a h2 (pode haver falso positivo, conferido pela chave)
+        private static long iguais(long palavra, byte h2) {
+            long x = palavra ^ (BYTES_01 * h2);
+            return (x - BYTES_01) & ~x & BYTES_80;
+        }
+
+        private static long vazios(long palavra) {
+            return palavra & (~palavra << 6) & BYTES_80;
+        }
+
+        private static long vaziosOuApagados(long palavra) {
+            return palavra & (~palavra << 7) & BYTES_80;
+        }
+
+        // Procura a chave; retorna a posição ou -1
+        private int buscar(int chave, byte h2) {
+            int mascara = numGrupos - 1;
+            int g = grupoInicial(chave);
+            for (int passo = 1; passo <= numGrupos; passo++) {
+                int base = g * TAMANHO_GRUPO;
+                long baixo = (long) LONG_LE.get(controle, base);
+                long alto = (long) LONG_LE.get(controle, base + 8);
+
+                for (long m = iguais(baixo, h2); m != 0; m &= m - 1) {
+                    int j = base + (Long.numberOfTrailingZeros(m) >>> 3);
+                    if (chaves[j] == chave) return j;
+                }
+                for (long m = iguais(alto, h2); m != 0; m &= m - 1) {
+                    int j = base + 8 + (Long.numberOfTrailingZeros(m) >>> 3);
+                    if (chaves[j] == chave) return j;
+                }
+                // Um grupo com posição vazia encerra a sondagem
+                if ((vazios(baixo) | vazios(alto)) != 0) return -1;
+                g = (g + passo) & mascara;
+            }
+            return -1;
+        }
+
+        public boolean contem(int chave) {
+            return buscar(chave, h2(chave)) >= 0;
+        }
+
+        public boolean inserir(int chave) {
+            byte h2 = h2(chave);
+            if (buscar(chave, h2) >= 0) return false;
+            // Mantém a carga (ocupadas + apagadas) em até 7/8
+            if ((quantidade + apagados + 1) * 8L > (long) controle.length * 7) redimensionar();
+
+            int mascara = numGrupos - 1;
+            int g = grupoInicial(chave);
+            for (int passo = 1; ; passo++) {
+                int base = g * TAMANHO_GRUPO;
+                long baixo = vaziosOuApagados((long) LONG_LE.get(controle, base));
+                long alto = vaziosOuApagados((long) LONG_LE.get(controle, base + 8));
+                if ((baixo | alto) != 0) {
+                    int j = (baixo != 0)
+                            ? base + (Long.numberOfTrailingZeros(baixo) >>> 3)
+                            : base + 8 + (Long.numberOfTrailingZeros(alto) >>> 3);
+                    if (controle[j] == APAGADO) apagados--;
+                    controle[j] = h2;
+                    chaves[j] = chave;
+                    quantidade++;
+                    colisoes += passo - 1;
+                    return true;
+                }
+                g = (g + passo) & mascara;
+            }
+        }
+
+        public boolean remover(int chave) {
+            int j = buscar(chave, h2(chave));
+            if (j < 0) return false;
+            controle[j] = APAGADO; // Não pode virar VAZIO sem quebrar as sondagens que passam por aqui
+            quantidade--;
+            apagados++;
+            return true;
+        }
+
+        // Dobra o número de grupos (ou só limpa os apagados, se eles é que ocupam o espaço)
+        private void redimensionar() {
+            byte[] controleAntigo = controle;
+            int[] chavesAntigas = chaves;
+            int grupos = (quantidade * 2L > (long) controle.length) ? numGrupos * 2 : numGrupos;
+            alocar(grupos);
+            quantidade = 0;
+            long colisoesAntes = colisoes;
+            for (int j = 0; j < controleAntigo.length; j++)
+                if (controleAntigo[j] >= 0) inserir(chavesAntigas[j]);
+            colisoes = colisoesAntes; // Reinserção não conta como colisão das inserções
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getQuantidade() { return quantidade; }
+        public int getTamanho() { return controle.length; }
+
+        public double[] calcularGaps() {
+            return EstatisticasTabela.gaps(controle.length, i -> controle[i] >= 0); // Bit 7 desligado = posição ocupada
+        }
+    }
+
+    // Tabela de quocientes (quotient filter) para chaves de 9 dígitos
+    // - Toda chave está em [0, 10^9) ⊂ [0, 2^30): uma permutação de 30 bits espalha as chaves,
+    //   os q bits altos escolhem a posição (quociente) e só os 30 - q bits baixos (resto) são guardados
+    // - Como a permutação é bijetora, quociente + resto identificam a chave: a busca é exata,
+    //   sem falsos positivos (diferente do FiltroBloom)
+    // - Cada posição tem 3 bits de controle (ocupada, continuação, deslocada) + o resto,
+    //   empacotados em long[]; com 100M chaves são 27 + 3 bits = 6 bits por posição (~1 byte/chave)
+    // - Potência de 2 de posições, carga máxima 0.75; ao passar disso dobra (q + 1, resto - 1 bit)
+    public static class TabelaQuociente {
+        private static final int BITS_CHAVE = 30;
+        private static final int MASCARA_CHAVE = (1 << BITS_CHAVE) - 1;
+        private static final double CARGA_MAX = 0.75;
+        private static final long OCUPADO = 1;      // Existe uma sequência com este quociente
+        private static final long CONTINUACAO = 2;  // Mesma sequência da posição anterior
+        private static final long DESLOCADO = 4;    // O resto não está na sua posição canônica
+
+        private final int semente;
+        private long[] palavras;
+        private int bitsQuociente;
+        private int bitsResto;
+        private int largura;        // bitsResto + 3
+        private long mascaraSlot;
+        private int mascaraPos;
+        private int limite;
+        private int quantidade = 0;
+        private long colisoes = 0;  // Posições percorridas além da canônica + restos empurrados
+
+        public TabelaQuociente(int capacidade, long semente) {
+            this.semente = HashUtils.misturar((int) semente, (int) (semente >>> 32)) & MASCARA_CHAVE;
+            int q = 4;
+            while (q < BITS_CHAVE && (1L << q) * CARGA_MAX < capacidade) q++;
+            alocar(q);
+        }
+
+        private void alocar(int q) {
+            bitsQuociente = q;
+            bitsResto = BITS_CHAVE - q;
+            largura = bitsResto + 3;
+            mascaraSlot = (1L << largura) - 1;
+            mascaraPos = (1 << q) - 1;
+            // Com resto de 0 bits nada é deslocado e a tabela pode encher até o fim
+            limite = (q == BITS_CHAVE) ? mascaraPos : (int) ((1L << q) * CARGA_MAX);
+            palavras = new long[(int) (((1L << q) * largura + 63) >>> 6) + 1]; // +1: a última posição pode cruzar a palavra
+            quantidade = 0;
+        }
+
+        // Bijeção em 30 bits: xor, multiplicação por ímpar e xorshift são todos inversíveis módulo 2^30
+        private int permutar(int chave) {
+            int x = chave ^ semente;
+            x = (x * 0x2C1B3C6D) & MASCARA_CHAVE;
+            x ^= x >>> 15;
+            x = (x * 0x297A2D39) & MASCARA_CHAVE;
+            x ^= x >>> 14;
+            return x;
+        }
+
+        private long ler(int i) {
+            long bit = (long) i * largura;
+            int p = (int) (bit >>> 6), d = (int) (bit & 63);
+            long v = palavras[p] >>> d;
+            if (d + largura > 64) v |= palavras[p + 1] << (64 - d);
+            return v & mascaraSlot;
+        }
+
+        private void escrever(int i, long v) {
+            long bit = (long) i * largura;
+            int p = (int) (bit >>> 6), d = (int) (bit & 63);
+            palavras[p] = (palavras[p] & ~(mascaraSlot << d)) | (v << d);
+            if (d + largura > 64) {
+                int s = 64 - d;
+                palavras[p + 1] = (palavras[p + 1] & ~(mascaraSlot >>> s)) | (v >>> s);
+            }
+        }
+
+        private static boolean vazia(long e) { return (e & 7) == 0; }
+
+        // Primeira posição da sequência do quociente fq: volta até o início do agrupamento
+        // e anda uma sequência para cada quociente ocupado até chegar em fq
+        private int inicioSequencia(int fq) {
+            int b = fq;
+            while ((ler(b) & DESLOCADO) != 0) b = (b - 1) & mascaraPos;
+            int s = b;
+            while (b != fq) {
+                do s = (s + 1) & mascaraPos; while ((ler(s) & CONTINUACAO) != 0);
+                do b = (b + 1) & mascaraPos; while ((ler(b) & OCUPADO) == 0);
+            }
+            return s;
+        }
+
+        public boolean contem(int chave) {
+            if (chave < 0 || chave > MASCARA_CHAVE) return false;
+            int v = permutar(chave);
+            int fq = v >>> bitsResto;
+            long fr = v & ((1L << bitsResto) - 1);
+            if ((ler(fq) & OCUPADO) == 0) return false;
+
+            // Os restos de uma sequência ficam em ordem crescente
+            int s = inicioSequencia(fq);
+            do {
+                long resto = ler(s) >>> 3;
+                if (resto == fr) return true;
+                if (resto > fr) return false;
+                s = (s + 1) & mascaraPos;
+            } while ((ler(s) & CONTINUACAO) != 0);
+            return false;
+        }
+
+        public boolean inserir(int chave) {
+            if (chave < 0 || chave > MASCARA_CHAVE) throw new IllegalArgumentException("Chave fora de [0, 2^30): " + chave);
+            if (quantidade >= limite) crescer();
+            return inserirValor(permutar(chave));
+        }
+
+        private boolean inserirValor(int v) {
+            int fq = v >>> bitsResto;
+            long fr = v & ((1L << bitsResto) - 1);
+            long canonica = ler(fq);
+            long entrada = fr << 3;
+
+            if (vazia(canonica)) {
+                escrever(fq, entrada | OCUPADO);
+                quantidade++;
+                return true;
+            }
+
+            boolean sequenciaExiste = (canonica & OCUPADO) != 0;
+            if (!sequenciaExiste) escrever(fq, canonica | OCUPADO);
+
+            int inicio = inicioSequencia(fq);
+            int s = inicio;
+            if (sequenciaExiste) {
+                // Acha a posição do resto dentro da sequência (ordem crescente)
+                do {
+                    long resto = ler(s) >>> 3;
+                    if (resto == fr) return false; // Chave repetida
+                    if (resto > fr) break;
+                    s = (s + 1) & mascaraPos;
+                } while ((ler(s) & CONTINUACAO) != 0);
+
+                if (s == inicio) escrever(inicio, ler(inicio) | CONTINUACAO); // O antigo primeiro vira continuação
+                else entrada |= CONTINUACAO;
+            }
+            if (s != fq) entrada |= DESLOCADO;
+
+            colisoes += ((s - fq) & mascaraPos) + empurrar(s, entrada);
+            quantidade++;
+            return true;
+        }
+
+        // Grava a entrada em s e empurra o resto do agrupamento uma posição para frente,
+        // até a primeira posição vazia; o bit OCUPADO fica na posição (é do quociente, não do resto).
+        // Retorna quantos restos foram empurrados
+        private int empurrar(int s, long entrada) {
+            long atual = entrada;
+            int empurrados = -1;
+            boolean fim;
+            do {
+                long anterior = ler(s);
+                fim = vazia(anterior);
+                if (!fim) {
+                    anterior |= DESLOCADO;
+                    if ((anterior & OCUPADO) != 0) {
+                        atual |= OCUPADO;
+                        anterior &= ~OCUPADO;
+                    }
+                }
+                escrever(s, atual);
+                atual = anterior;
+                s = (s + 1) & mascaraPos;
+                empurrados++;
+            } while (!fim);
+            return empurrados;
+        }
+
+        // Dobra as posições: recupera cada valor (quociente + resto) e reinsere com um bit a menos de resto
+        private void crescer() {
+            if (bitsQuociente == BITS_CHAVE) return;
+            int[] valores = new int[quantidade];
+            int n = 0;
+
+            // Começa logo depois de uma posição vazia, que é sempre o início de um agrupamento
+            int inicio = 0;
+            while (!vazia(ler(inicio))) inicio++;
+            int q = 0;
+            for (int k = 1; k <= mascaraPos + 1; k++) {
+                int i = (inicio + k) & mascaraPos;
+                long e = ler(i);
+                if (vazia(e)) continue;
+                if ((e & DESLOCADO) == 0) q = i; // Resto na posição canônica: início de agrupamento
+                else if ((e & CONTINUACAO) == 0) { // Nova sequência: próximo quociente ocupado
+                    do q = (q + 1) & mascaraPos; while ((ler(q) & OCUPADO) == 0);
+                }
+                valores[n++] = (q << bitsResto) | (int) (e >>> 3);
+            }
+
+            long colisoesAntes = colisoes;
+            alocar(bitsQuociente + 1);
+            for (int v : valores) inserirValor(v);
+            colisoes = colisoesAntes; // Reinserção não conta como colisão das inserções
+        }
+
+        public long getColisoes() { return colisoes; }
+        public int getQuantidade() { return quantidade; }
+        public int getTamanho() { return mascaraPos + 1; }
+        public int getBitsQuociente() { return bitsQuociente; }
+        public int getBitsResto() { return bitsResto; }
+        public long getBytes() { return palavras.length * 8L; }
+        public double getBytesPorChave() { return quantidade == 0 ? 0 : (double) getBytes() / quantidade; }
+    }
+
+    // Tabela congelada: hash perfeito mínimo (estilo BBHash) sobre um conjunto fixo de chaves
+    // - Nível i: vetor de bits com GAMA * (chaves restantes) posições; cada chave marca a posição
+    //   do seu hash. As chaves que caíram sozinhas numa posição ficam nesse nível, as que colidiram
+    //   passam para o nível seguinte com outra semente
+    // - Posição final da chave = quantos bits 1 há antes do seu bit (rank, com contagens
+    //   acumuladas a cada 8 palavras): um número em [0, n) diferente para cada chave
+    // - A chave inteira fica guardada na posição (30 bits, cabe num int) e serve de impressão
+    //   digital: a busca confere um bit por nível até achar o da chave, lê uma posição e compara
+    // - Cada nível é construído em paralelo (marcação com OR atômico, depois filtro das colididas
+    //   por pedaço, na ordem dos pedaços); o resultado não depende do número de threads
+    // - Só leitura: para mudar as chaves é preciso congelar de novo
+    public static class TabelaPerfeita {
+        private static final double GAMA = 2.0;
+        private static final int MAX_NIVEIS = 24;
+        private static final int PEDACO = 1 << 16;
+        private static final long SEMENTE_PADRAO = 0x9E3779B97F4A7C15L;
+        private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+        private interface TarefaPedaco { void executar(int pedaco, int ini, int fim); }
+
+        private final long[] bits;          // Níveis concatenados
+        private final int[] postos;         // Bits 1 antes de cada grupo de 8 palavras
+        private final long[] inicioNivel;   // Em bits
+        private final long[] tamanhoNivel;  // Em bits (múltiplo de 64)
+        private final int[] sementes;
+        private final int[] chaves;         // chaves[indice(k)] == k
+        private final int[] restantes;      // Colididas em todos os níveis (ordenadas), no fim de chaves
+        private final int colocadas;
+
+        private TabelaPerfeita(List<long[]> niveis, List<Integer> sementesNivel, int[] restantes, int quantidade) {
+            int numNiveis = niveis.size();
+            inicioNivel = new long[numNiveis];
+            tamanhoNivel = new long[numNiveis];
+            sementes = new int[numNiveis];
+            long totalPalavras = 0;
+            for (int l = 0; l < numNiveis; l++) {
+                inicioNivel[l] = totalPalavras * 64;
+                tamanhoNivel[l] = niveis.get(l).length * 64L;
+                sementes[l] = sementesNivel.get(l);
+                totalPalavras += niveis.get(l).length;
+            }
+            bits = new long[(int) totalPalavras];
+            for (int l = 0; l < numNiveis; l++)
+                System.arraycopy(niveis.get(l), 0, bits, (int) (inicioNivel[l] >>> 6), niveis.get(l).length);
+
+            postos = new int[(bits.length >>> 3) + 1];
+            int acumulado = 0;
+            for (int w = 0; w < bits.length; w++) {
+                if ((w & 7) == 0) postos[w >>> 3] = acumulado;
+                acumulado += Long.bitCount(bits[w]);
+            }
+            this.colocadas = acumulado;
+            this.restantes = restantes;
+            this.chaves = new int[quantidade];
+        }
+
+        private static long posicao(int chave, int semente, long tamanho) {
+            return ((HashUtils.misturar(chave, semente) & 0xFFFFFFFFL) * tamanho) >>> 32;
+        }
+
+        public static TabelaPerfeita construir(int[] chavesOrigem, int quantidade, int paralelismo) {
+            return construir(chavesOrigem, quantidade, paralelismo, SEMENTE_PADRAO);
+        }
+
+        // Constrói sobre as primeiras `quantidade` chaves (repetidas contam uma vez)
+        public static TabelaPerfeita construir(int[] chavesOrigem, int quantidade, int paralelismo, long semente) {
+            int[] atuais = Arrays.copyOf(chavesOrigem, quantidade);
+            Arrays.parallelSort(atuais);
+            int n = 0;
+            for (int i = 0; i < atuais.length; i++)
+                if (i == 0 || atuais[i] != atuais[i - 1]) atuais[n++] = atuais[i];
+            int[] unicas = Arrays.copyOf(atuais, n);
+            atuais = unicas;
+
+            SplittableRandom rnd = new SplittableRandom(semente);
+            List<long[]> niveis = new ArrayList<>();
+            List<Integer> sementesNivel = new ArrayList<>();
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            try {
+                while (atuais.length > 0 && niveis.size() < MAX_NIVEIS) {
+                    int[] doNivel = atuais;
+                    long tamanho = Math.max(64, ((long) Math.ceil(GAMA * doNivel.length) + 63) & ~63L);
+                    long[] visto = new long[(int) (tamanho >>> 6)];
+                    long[] colidiu = new long[visto.length];
+                    int sNivel = rnd.nextInt();
+
+                    // Marca as posições; uma posição marcada duas vezes vai para `colidiu`
+                    emPedacos(pool, doNivel.length, (p, ini, fim) -> {
+                        for (int i = ini; i < fim; i++) {
+                            long pos = posicao(doNivel[i], sNivel, tamanho);
+                            long bit = 1L << pos;
+                            int w = (int) (pos >>> 6);
+                            long antes = (long) LONGS.getAndBitwiseOr(visto, w, bit);
+                            if ((antes & bit) != 0) LONGS.getAndBitwiseOr(colidiu, w, bit);
+                        }
+                    });
+                    for (int w = 0; w < visto.length; w++) visto[w] &= ~colidiu[w];
+
+                    // As que colidiram seguem para o próximo nível, na mesma ordem
+                    int[][] partes = new int[(doNivel.length + PEDACO - 1) / PEDACO][];
+                    emPedacos(pool, doNivel.length, (p, ini, fim) -> {
+                        int[] parte = new int[fim - ini];
+                        int m = 0;
+                        for (int i = ini; i < fim; i++) {
+                            long pos = posicao(doNivel[i], sNivel, tamanho);
+                            if ((visto[(int) (pos >>> 6)] & (1L << pos)) == 0) parte[m++] = doNivel[i];
+                        }
+                        partes[p] = Arrays.copyOf(parte, m);
+                    });
+                    int total = 0;
+                    for (int[] parte : partes) total += parte.length;
+                    atuais = new int[total];
+                    total = 0;
+                    for (int[] parte : partes) {
+                        System.arraycopy(parte, 0, atuais, total, parte.length);
+                        total += parte.length;
+                    }
+
+                    niveis.add(visto);
+                    sementesNivel.add(sNivel);
+                }
+
+                TabelaPerfeita t = new TabelaPerfeita(niveis, sementesNivel, atuais, n);
+                System.arraycopy(atuais, 0, t.chaves, t.colocadas, atuais.length);
+                emPedacos(pool, unicas.length, (p, ini, fim) -> {
+                    for (int i = ini; i < fim; i++) t.chaves[t.indice(unicas[i])] = unicas[i];
+                });
+                return t;
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // Divide [0, n) em pedaços de PEDACO e espera todos terminarem
+        private static void emPedacos(ForkJoinPool pool, int n, TarefaPedaco tarefa) {
+            List<ForkJoinTask<?>> tarefas = new ArrayList<>();
+            for (int p = 0, ini = 0; ini < n; p++, ini += PEDACO) {
+                int pedaco = p, inicio = ini, fim = Math.min(n, ini + PEDACO);
+                tarefas.add(pool.submit(() -> tarefa.executar(pedaco, inicio, fim)));
+            }
+            for (ForkJoinTask<?> t : tarefas) t.join();
+        }
+
+        // Posição da chave em [0, n), ou -1 se nenhum nível a aceita (então ela não está no conjunto)
+        private int indice(int chave) {
+            for (int l = 0; l < sementes.length; l++) {
+                long pos = inicioNivel[l] + posicao(chave, sementes[l], tamanhoNivel[l]);
+                int w = (int) (pos >>> 6);
+                if ((bits[w] & (1L << pos)) != 0) {
+                    int posto = postos[w >>> 3];
+                    for (int k = w & ~7; k < w; k++) posto += Long.bitCount(bits[k]);
+                    return posto + Long.bitCount(bits[w] & ((1L << pos) - 1));
+                }
+            }
+            int j = Arrays.binarySearch(restantes, chave);
+            return j >= 0 ? colocadas + j : -1;
+        }
+
+        public boolean contem(int chave) {
+            int i = indice(chave);
+            return i >= 0 && chaves[i] == chave;
+        }
+
+        public int getQuantidade() { return chaves.length; }
+        public int getNiveis() { return sementes.length; }
+        public int getRestantes() { return restantes.length; }
+        // Só a função (bits dos níveis + contagens acumuladas), sem as chaves guardadas
+        public double getBitsPorChave() {
+            return chaves.length == 0 ? 0 : (bits.length * 64.0 + postos.length * 32.0) / chaves.length;
+        }
+        public long getBytes() { return bits.length * 8L + postos.length * 4L + chaves.length * 4L; }
+    }
+
+    // Encadeamento concorrente (chaves int)
+    // - Escrita: trava por faixa de baldes (listras); cada ReentrantLock cobre um
+    //   intervalo contíguo de baldes
+    // - Leitura sem trava: o próximo de cada nó é volatile e o nó novo é montado por
+    //   completo antes de ser publicado na lista, então a busca sempre vê uma lista válida
+    // - Listas ordenadas como na TabelaEncadeada; contadores com LongAdder
+    public static class TabelaEncadeadaConcorrente {
+        private static final class No {
+            final int chave;
+            volatile No proximo;
+            No(int chave) { this.chave = chave; }
+        }
+
+        private final AtomicReferenceArray<No> cabecas;
+        private final ReentrantLock[] listras;
+        private final int baldesPorListra;
+        private final int tamanho;
+        private final FuncaoHash funcao;
+        private final LongAdder colisoes = new LongAdder();
+        private final LongAdder quantidade = new LongAdder();
+
+        public TabelaEncadeadaConcorrente(int tamanho, FuncaoHash funcao, int numListras) {
+            this.tamanho = tamanho;
+            this.funcao = funcao;
+            this.cabecas = new AtomicReferenceArray<>(tamanho);
+            int n = Math.max(1, Math.min(numListras, tamanho));
+            this.baldesPorListra = (tamanho + n - 1) / n;
+            this.listras = new ReentrantLock[n];
+            for (int i = 0; i < n; i++) listras[i] = new ReentrantLock();
+        }
+
+        public void inserir(int chave) {
+            int indice = funcao.hash(chave, tamanho);
+            No novo = new No(chave);
+            ReentrantLock trava = listras[indice / baldesPorListra];
+            trava.lock();
+            try {
+                No atual = cabecas.get(indice);
+                No anterior = null;
+                long c = 0;
+                if (atual != null) {
+                    c++;
+                    while (atual != null && chave > atual.chave) {
+                        c++;
+                        anterior = atual;
+                        atual = atual.proximo;
+                    }
+                }
+                novo.proximo = atual; // Antes de publicar: quem ler o nó já vê o próximo certo
+                if (anterior == null) cabecas.set(indice, novo);
+                else anterior.proximo = novo;
+                if (c > 0) colisoes.add(c);
+            } finally {
+                trava.unlock();
+            }
+            quantidade.increment();
+        }
+
+        public boolean contem(int chave) {
+            No atual = cabecas.get(funcao.hash(chave, tamanho));
+            while (atual != null) {
+                if (atual.chave >= chave) return atual.chave == chave;
+                atual = atual.proximo;
+            }
+            return false;
+        }
+
+        public long getColisoes() { return colisoes.sum(); }
+        public long getQuantidade() { return quantidade.sum(); }
+    }
+
+    // Endereçamento aberto concorrente (chaves int)
+    // - Posições em um AtomicIntegerArray; a inserção ocupa a posição com CAS
+    //   (VAZIO -> chave) e, se perder a disputa, segue a sondagem
+    // - A busca é só leitura volátil, sem trava
+    // - Mesmas sequências DUPLO e QUADRATICO da TabelaEnderecAbertoInt
+    public static class TabelaEnderecAbertoConcorrente {
+        public static final int VAZIO = -1;
+
+        private final AtomicIntegerArray posicoes;
+        private final int tamanho;
+        private final FuncaoHash f1;
+        private final FuncaoHash f2;
+        private final TabelaEnderecAberto.Modo modo;
+        private final LongAdder colisoes = new LongAdder();
+        private final LongAdder quantidade = new LongAdder();
+
+        public TabelaEnderecAbertoConcorrente(int tamanho, FuncaoHash f1, FuncaoHash f2, TabelaEnderecAberto.Modo modo) {
+            if (modo == TabelaEnderecAberto.Modo.ROBIN_HOOD)
+                throw new IllegalArgumentException("Modo não suportado na tabela concorrente: " + modo);
+            this.tamanho = tamanho;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.modo = modo;
+            this.posicoes = new AtomicIntegerArray(tamanho);
+            for (int i = 0; i < tamanho; i++) posicoes.set(i, VAZIO);
+        }
+
+        private int posicao(int h1, int h2, int i) {
+            return (modo == TabelaEnderecAberto.Modo.DUPLO)
+                    ? (int) Math.floorMod(h1 + (long) i * h2, (long) tamanho)
+                    : (int) Math.floorMod(h1 + i + 3L * i * i, (long) tamanho);
+        }
+
+        private int passo(int chave) {
+            if (modo != TabelaEnderecAberto.Modo.DUPLO) return 0;
+            int h2 = f2.hash(chave, tamanho);
+            return (h2 == 0) ? 1 : h2;
+        }
+
+        public boolean inserir(int chave) {
+            if (chave < 0) throw new IllegalArgumentException("Chave negativa: " + chave);
+            int h1 = f1.hash(chave, tamanho);
+            int h2 = passo(chave);
+            for (int i = 0; i < tamanho; i++) {
+                int pos = posicao(h1, h2, i);
+                if (posicoes.get(pos) == VAZIO && posicoes.compareAndSet(pos, VAZIO, chave)) {
+                    if (i > 0) colisoes.add(i);
+                    quantidade.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean contem(int chave) {
+            int h1 = f1.hash(chave, tamanho);
+            int h2 = passo(chave);
+            for (int i = 0; i < tamanho; i++) {
+                int atual = posicoes.get(posicao(h1, h2, i));
+                if (atual == VAZIO) return false;
+                if (atual == chave) return true;
+            }
+            return false;
+        }
+
+        public long getColisoes() { return colisoes.sum(); }
+        public long getQuantidade() { return quantidade.sum(); }
+    }
+
+    // Benchmark multi-thread: mede a vazão (operações/s) das tabelas concorrentes
+    // com 1, 2, 4, ... até N threads, com as chaves já carregadas em memória
+    public static class BenchmarkConcorrente {
+        public static void executar(String dataset, int tamanho, FuncaoHash f1, FuncaoHash f2,
+                                    String arquivoCsv) throws Exception {
+            int[] chaves = lerChaves(dataset);
+            int maxThreads = Runtime.getRuntime().availableProcessors();
+
+            System.out.println("\n*** BENCHMARK CONCORRENTE ***");
+            System.out.println("Dataset: " + dataset + " (" + chaves.length + " chaves) | Tabela=" + tamanho
+                    + " | até " + maxThreads + " threads");
+
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(arquivoCsv))) {
+                bw.write("metodo,modo,tamanhoTabela,tamanhoDataset,threads,tempoInsercaoNs,tempoBuscaNs,insercoesPorSeg,buscasPorSeg,colisoes\n");
+
+                String[] metodos = {"encadeamento_concorrente", "enderecamento_aberto_concorrente", "enderecamento_aberto_concorrente"};
+                TabelaEnderecAberto.Modo[] modos = {null, TabelaEnderecAberto.Modo.DUPLO, TabelaEnderecAberto.Modo.QUADRATICO};
+
+                for (int m = 0; m < metodos.length; m++) {
+                    double vazaoBase = 0;
+                    for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+                        TabelaEncadeadaConcorrente enc = null;
+                        TabelaEnderecAbertoConcorrente oa = null;
+                        if (modos[m] == null) enc = new TabelaEncadeadaConcorrente(tamanho, f1, threads * 64);
+                        else oa = new TabelaEnderecAbertoConcorrente(tamanho, f1, f2, modos[m]);
+                        final TabelaEncadeadaConcorrente fEnc = enc;
+                        final TabelaEnderecAbertoConcorrente fOa = oa;
+
+                        long tIns = medir(chaves, threads, k -> { if (fEnc != null) fEnc.inserir(k); else fOa.inserir(k); });
+                        long tBusca = medir(chaves, threads, k -> { if (fEnc != null) fEnc.contem(k); else fOa.contem(k); });
+                        long colisoes = (enc != null) ? enc.getColisoes() : oa.getColisoes();
+
+                        double insPorSeg = chaves.length / (tIns / 1e9);
+                        double buscaPorSeg = chaves.length / (tBusca / 1e9);
+                        if (threads == 1) vazaoBase = buscaPorSeg;
+                        String modo = (modos[m] == null) ? "ordenado_listras" : modos[m].name().toLowerCase();
+
+                        System.out.printf(java.util.Locale.US, "%-34s %-16s threads=%2d | ins %8.2f Mops/s | busca %8.2f Mops/s (x%.2f)%n",
+                                metodos[m], modo, threads, insPorSeg / 1e6, buscaPorSeg / 1e6, buscaPorSeg / vazaoBase);
+                        bw.write(String.format(java.util.Locale.US, "%s,%s,%d,%d,%d,%d,%d,%.0f,%.0f,%d\n",
+                                metodos[m], modo, tamanho, chaves.length, threads, tIns, tBusca, insPorSeg, buscaPorSeg, colisoes));
+
+                        if (threads == maxThreads) break;
+                    }
+                }
+            }
+            System.out.println("Resultados salvos em: " + arquivoCsv);
+        }
+
+        private interface OperacaoChave { void executar(int chave); }
+
+        // Divide as chaves em faixas contíguas, uma por thread, e mede do início ao fim de todas
+        private static long medir(int[] chaves, int threads, OperacaoChave op) throws Exception {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                CyclicBarrier largada = new CyclicBarrier(threads + 1);
+                List<Future<?>> tarefas = new ArrayList<>();
+                int porThread = (chaves.length + threads - 1) / threads;
+                for (int t = 0; t < threads; t++) {
+                    int ini = t * porThread;
+                    int fim = Math.min(chaves.length, ini + porThread);
+                    tarefas.add(pool.submit(() -> {
+                        largada.await();
+                        for (int i = ini; i < fim; i++) op.executar(chaves[i]);
+                        return null;
+                    }));
+                }
+                largada.await();
+                long t0 = System.nanoTime();
+                for (Future<?> f : tarefas) f.get();
+                return System.nanoTime() - t0;
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Micro-benchmark rápido das tabelas com Registro, todo no mesmo processo (as medições de
+    // referência são as do módulo JMH em jmh/, que roda cada configuração em JVMs separadas)
+    // - Os motores e funções hash dividem o perfil do JIT, então a ordem de execução influencia
+    // - Parâmetros: motor (encadeamento, duplo, quadrático) x FuncaoHash x tamanho x fator de carga
+    // - As chaves (e os Registros) são carregados antes; nada de E/S na região medida
+    // - Cada configuração roda AQUECIMENTOS vezes sem medir (JIT) e MEDICOES vezes medindo;
+    //   reporta a mediana das medições
+    // - Inserção, busca com acerto e busca com falha são medidas separadamente; as chaves
+    //   ausentes são sorteadas e conferidas por busca binária numa cópia ordenada
+    // - Saída no formato do resultados.csv; a busca com falha sai numa segunda linha com
+    //   o modo terminado em "_ausente"
+    public static class BenchmarkMicro {
+        private static final int AQUECIMENTOS = 3;
+        private static final int MEDICOES = 5;
+        private static volatile long sumidouro; // Consome os resultados para o JIT não eliminar as buscas
+
+        public static void executar(int[] chaves, int[] tamanhos, double[] fatoresCarga,
+                                    String[] nomesFuncoes, FuncaoHash[] funcoes, FuncaoHash f2,
+                                    String arquivoCsv) throws IOException {
+            String[] motores = {"encadeamento", "duplo", "quadratico"};
+            EscritorCSV csv = new EscritorCSV(arquivoCsv);
+            csv.cabecalho();
+
+            System.out.println("\n*** MICRO-BENCHMARK (" + AQUECIMENTOS + " aquecimentos, mediana de " + MEDICOES + " medições) ***");
+            for (int M : tamanhos) {
+                for (double alfa : fatoresCarga) {
+                    int n = (int) (alfa * M);
+                    if (n > chaves.length) {
+                        System.out.println("AVISO: Pulando Tabela=" + M + " α=" + alfa + " (dataset tem só " + chaves.length + " chaves)");
+                        continue;
+                    }
+                    Registro[] presentes = new Registro[n];
+                    for (int i = 0; i < n; i++) presentes[i] = new Registro(String.format("%09d", chaves[i]));
+                    Registro[] ausentes = sortearAusentes(chaves, n, n);
+
+                    for (String motor : motores) {
+                        for (int f = 0; f < funcoes.length; f++) {
+                            long[] tIns = new long[MEDICOES], tAcerto = new long[MEDICOES], tFalha = new long[MEDICOES];
+                            TabelaEncadeada enc = null;
+                            TabelaEnderecAberto oa = null;
+
+                            for (int it = 0; it < AQUECIMENTOS + MEDICOES; it++) {
+                                if (motor.equals("encadeamento")) { enc = new TabelaEncadeada(M, funcoes[f]); oa = null; }
+                                else {
+                                    oa = new TabelaEnderecAberto(M, funcoes[f], f2, motor.equals("duplo")
+                                            ? TabelaEnderecAberto.Modo.DUPLO : TabelaEnderecAberto.Modo.QUADRATICO);
+                                    enc = null;
+                                }
+                                System.gc();
+
+                                long t0 = System.nanoTime();
+                                if (enc != null) for (Registro r : presentes) enc.inserir(r);
+                                else for (Registro r : presentes) oa.inserir(r);
+                                long t1 = System.nanoTime();
+                                long acertos = 0;
+                                if (enc != null) { for (Registro r : presentes) if (enc.contem(r)) acertos++; }
+                                else for (Registro r : presentes) if (oa.contem(r)) acertos++;
+                                long t2 = System.nanoTime();
+                                long falhas = 0;
+                                if (enc != null) { for (Registro r : ausentes) if (!enc.contem(r)) falhas++; }
+                                else for (Registro r : ausentes) if (!oa.contem(r)) falhas++;
+                                long t3 = System.nanoTime();
+                                sumidouro += acertos + falhas;
+
+                                if (it >= AQUECIMENTOS) {
+                                    tIns[it - AQUECIMENTOS] = t1 - t0;
+                                    tAcerto[it - AQUECIMENTOS] = t2 - t1;
+                                    tFalha[it - AQUECIMENTOS] = t3 - t2;
+                                }
+                            }
+
+                            long ins = mediana(tIns), acerto = mediana(tAcerto), falha = mediana(tFalha);
+                            String metodo = (enc != null) ? "encadeamento" : "enderecamento_aberto";
+                            String modo = motor + "_" + nomesFuncoes[f];
+                            System.out.printf(java.util.Locale.US, "%-12s %-16s Tabela=%-9d α=%.2f | ins %6.1f ns/op | acerto %6.1f ns/op | falha %6.1f ns/op%n",
+                                    motor, nomesFuncoes[f], M, alfa, (double) ins / n, (double) acerto / n, (double) falha / ausentes.length);
+
+                            if (enc != null) {
+                                double[] gaps = enc.calcularGaps();
+                                Integer[] top = enc.getTop3Listas();
+                                csv.linha(metodo, modo, M, n, ins, acerto, enc.getColisoes(), top[0], top[1], top[2], gaps[0], gaps[1], gaps[2]);
+                                csv.linha(metodo, modo + "_ausente", M, n, ins, falha, enc.getColisoes(), top[0], top[1], top[2], gaps[0], gaps[1], gaps[2]);
+                            } else {
+                                double[] gaps = oa.calcularGaps();
+                                csv.linha(metodo, modo, M, n, ins, acerto, oa.getColisoes(), 0, 0, 0, gaps[0], gaps[1], gaps[2]);
+                                csv.linha(metodo, modo + "_ausente", M, n, ins, falha, oa.getColisoes(), 0, 0, 0, gaps[0], gaps[1], gaps[2]);
+                            }
+                        }
+                    }
+                }
+            }
+            csv.fechar();
+            System.out.println("Resultados salvos em: " + arquivoCsv);
+        }
+
+        // 'quantidade' códigos de 9 dígitos que não estão entre as n primeiras chaves
+        private static Registro[] sortearAusentes(int[] chaves, int n, int quantidade) {
+            int[] ordenadas = Arrays.copyOf(chaves, n);
+            Arrays.sort(ordenadas);
+            SplittableRandom rnd = new SplittableRandom(n);
+            Registro[] ausentes = new Registro[quantidade];
+            for (int i = 0; i < quantidade; ) {
+                int k = rnd.nextInt(1_000_000_000);
+                if (Arrays.binarySearch(ordenadas, k) < 0) ausentes[i++] = new Registro(String.format("%09d", k));
+            }
+            return ausentes;
+        }
+
+        private static long mediana(long[] v) {
+            long[] c = v.clone();
+            Arrays.sort(c);
+            return c[c.length / 2];
+        }
+    }
+
+    // Histograma de latências com faixas logarítmicas (no estilo do HdrHistogram)
+    // - Valores abaixo de 2*METADE ns têm faixa própria; acima disso cada potência de 2 é
+    //   dividida em METADE faixas, então o erro relativo fica abaixo de 1/METADE (~1,6%)
+    // - Registrar é só um índice e um incremento (não aloca)
+    public static class HistogramaLatencia {
+        private static final int BITS_SUB = 7;
+        private static final int METADE = 1 << (BITS_SUB - 1);
+
+        private final long[] contagens = new long[(64 - BITS_SUB + 2) * METADE];
+        private long total;
+        private long maximo;
+
+        private static int indice(long v) {
+            int deslocamento = Math.max(0, 64 - Long.numberOfLeadingZeros(v) - BITS_SUB);
+            return deslocamento * METADE + (int) (v >>> deslocamento);
+        }
+
+        // Maior valor que cai na faixa do índice
+        private static long maiorValor(int indice) {
+            int deslocamento = (indice < 2 * METADE) ? 0 : indice / METADE - 1;
+            long sub = indice - (long) deslocamento * METADE;
+            return ((sub + 1) << deslocamento) - 1;
+        }
+
+        public void registrar(long ns) {
+            if (ns < 0) ns = 0;
+            contagens[indice(ns)]++;
+            total++;
+            if (ns > maximo) maximo = ns;
+        }
+
+        // Valor abaixo do qual estão p% das amostras (p em [0, 100])
+        public long percentil(double p) {
+            if (total == 0) return 0;
+            long alvo = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+            long acumulado = 0;
+            for (int i = 0; i < contagens.length; i++) {
+                acumulado += contagens[i];
+                if (acumulado >= alvo) return Math.min(maiorValor(i), maximo);
+            }
+            return maximo;
+        }
+
+        public long getTotal() { return total; }
+        public long getMaximo() { return maximo; }
+
+        // Uma linha por faixa não vazia: valor, percentil acumulado e contagem
+        public void escrever(BufferedWriter bw, String prefixo) throws IOException {
+            long acumulado = 0;
+            for (int i = 0; i < contagens.length; i++) {
+                if (contagens[i] == 0) continue;
+                acumulado += contagens[i];
+                bw.write(String.format(java.util.Locale.US, "%s,%d,%.6f,%d\n",
+                        prefixo, Math.min(maiorValor(i), maximo), 100.0 * acumulado / total, contagens[i]));
+            }
+        }
+    }
+
+    // Benchmark de latência por operação (percentis de inserir/contem)
+    // - Chaves em memória; a cada 'amostragem' operações uma é cronometrada isoladamente
+    // - Taxa livre (opsPorSegundo <= 0): mede só o tempo da chamada
+    // - Taxa fixa: a operação i está agendada para inicio + i * intervalo e a latência é
+    //   medida a partir do horário agendado, não do início real. Assim uma operação lenta
+    //   também conta o atraso que causou nas seguintes (correção de coordinated omission)
+    // - Os Registros são montados em lotes fora da região medida
+    public static class BenchmarkLatencia {
+        private static final int LOTE = 1 << 14;
+        private static volatile long sumidouro;
+
+        private interface Operacao { boolean executar(int chave, Registro r); }
+
+        private static class Motor {
+            final String metodo, modo;
+            final boolean usaRegistro;
+            final Operacao inserir, contem;
+            final LongSupplier colisoes;
+
+            Motor(String metodo, String modo, boolean usaRegistro, Operacao inserir, Operacao contem,
+                  LongSupplier colisoes) {
+                this.metodo = metodo;
+                this.modo = modo;
+                this.usaRegistro = usaRegistro;
+                this.inserir = inserir;
+                this.contem = contem;
+                this.colisoes = colisoes;
+            }
+        }
+
+        // Cada motor cria a sua tabela só quando é usado (uma tabela grande por vez em memória)
+        private static List<Supplier<Motor>> motores(int M, int qtd, FuncaoHash f1, FuncaoHash f2, long seed) {
+            List<Supplier<Motor>> lista = new ArrayList<>();
+            lista.add(() -> {
+                TabelaEncadeada enc = new TabelaEncadeada(M, f1);
+                return new Motor("encadeamento", "ordenado_multiplicativo", true,
+                        (k, r) -> { enc.inserir(r); return true; }, (k, r) -> enc.contem(r), enc::getColisoes);
+            });
+            lista.add(() -> {
+                TabelaEncadeadaVetor encV = new TabelaEncadeadaVetor(M, f1);
+                return new Motor("encadeamento", "vetor_ordenado", false,
+                        (k, r) -> { encV.inserir(k); return true; }, (k, r) -> encV.contem(k), encV::getColisoes);
+            });
+            lista.add(() -> {
+                TabelaEncadeadaArena encA = new TabelaEncadeadaArena(M, f1, qtd);
+                return new Motor("encadeamento", "arena_int", false,
+                        (k, r) -> { encA.inserir(k); return true; }, (k, r) -> encA.contem(k), encA::getColisoes);
+            });
+            for (TabelaEnderecAberto.Modo modo : TabelaEnderecAberto.Modo.values()) {
+                lista.add(() -> {
+                    TabelaEnderecAberto oa = new TabelaEnderecAberto(M, f1, f2, modo);
+                    return new Motor("enderecamento_aberto", modo.name().toLowerCase(), true,
+                            (k, r) -> oa.inserir(r), (k, r) -> oa.contem(r), oa::getColisoes);
+                });
+            }
+            for (TabelaEnderecAberto.Modo modo : new TabelaEnderecAberto.Modo[] {
+                    TabelaEnderecAberto.Modo.DUPLO, TabelaEnderecAberto.Modo.QUADRATICO }) {
+                lista.add(() -> {
+                    TabelaEnderecAbertoInt oi = new TabelaEnderecAbertoInt(M, f1, f2, modo);
+                    return new Motor("enderecamento_aberto", modo.name().toLowerCase() + "_int", false,
+                            (k, r) -> oi.inserir(k), (k, r) -> oi.contem(k), oi::getColisoes);
+                });
+            }
+            lista.add(() -> {
+                TabelaCuckoo tc = new TabelaCuckoo(M, f1, f1, seed);
+                return new Motor("cuckoo", "baldes4_stash", false,
+                        (k, r) -> tc.inserir(k), (k, r) -> tc.contem(k), tc::getColisoes);
+            });
+            lista.add(() -> {
+                TabelaSwiss ts = new TabelaSwiss(M, f1);
+                return new Motor("swiss", "grupos16_swar2x64", false,
+                        (k, r) -> ts.inserir(k), (k, r) -> ts.contem(k), ts::getColisoes);
+            });
+            return lista;
+        }
+
+        public static void executar(int[] tamanhos, long[] dados, String pasta, FuncaoHash f1, FuncaoHash f2,
+                                    long seed, int amostragem, long opsPorSegundo,
+                                    String arquivoCsv, String arquivoHistogramas) throws IOException {
+            try (BufferedWriter csv = new BufferedWriter(new FileWriter(arquivoCsv));
+                 BufferedWriter hist = new BufferedWriter(new FileWriter(arquivoHistogramas))) {
+                csv.write("metodo,modo,tamanhoTabela,tamanhoDataset,tempoInsercaoNs,tempoBuscaNs,colisoes,"
+                        + "insP50Ns,insP90Ns,insP99Ns,insP999Ns,insMaxNs,buscaP50Ns,buscaP90Ns,buscaP99Ns,buscaP999Ns,buscaMaxNs\n");
+                hist.write("metodo,modo,tamanhoTabela,tamanhoDataset,operacao,valorNs,percentil,contagem\n");
+
+                System.out.println("\n*** BENCHMARK DE LATÊNCIA (1 a cada " + amostragem + " operações"
+                        + (opsPorSegundo > 0 ? ", taxa fixa de " + opsPorSegundo + " ops/s" : ", taxa livre") + ") ***");
+                for (int M : tamanhos) {
+                    for (long qtd : dados) {
+                        if (qtd > M) continue; // Mesmo critério do main para os métodos de tamanho fixo
+                        int[] chaves = lerChaves(pasta + "/dados_" + qtd + ".txt");
+
+                        for (Supplier<Motor> criar : motores(M, chaves.length, f1, f2, seed)) {
+                            Motor m = criar.get();
+                            HistogramaLatencia hIns = new HistogramaLatencia();
+                            HistogramaLatencia hBusca = new HistogramaLatencia();
+                            long tIns = medir(chaves, m, m.inserir, amostragem, opsPorSegundo, hIns);
+                            long tBusca = medir(chaves, m, m.contem, amostragem, opsPorSegundo, hBusca);
+
+                            System.out.printf(java.util.Locale.US,
+                                    "%-20s %-24s Tabela=%-9d Registros=%-9d | ins p50 %5d p99 %6d p99.9 %7d max %9d ns | busca p50 %5d p99 %6d p99.9 %7d max %9d ns%n",
+                                    m.metodo, m.modo, M, qtd,
+                                    hIns.percentil(50), hIns.percentil(99), hIns.percentil(99.9), hIns.getMaximo(),
+                                    hBusca.percentil(50), hBusca.percentil(99), hBusca.percentil(99.9), hBusca.getMaximo());
+                            csv.write(m.metodo + "," + m.modo + "," + M + "," + qtd + "," + tIns + "," + tBusca + ","
+                                    + m.colisoes.getAsLong() + "," + percentis(hIns) + "," + percentis(hBusca) + "\n");
+                            String prefixo = m.metodo + "," + m.modo + "," + M + "," + qtd;
+                            hIns.escrever(hist, prefixo + ",insercao");
+                            hBusca.escrever(hist, prefixo + ",busca");
+                        }
+                    }
+                }
+            }
+            System.out.println("Resultados salvos em: " + arquivoCsv + " e " + arquivoHistogramas);
+        }
+
+        private static String percentis(HistogramaLatencia h) {
+            return h.percentil(50) + "," + h.percentil(90) + "," + h.percentil(99) + ","
+                    + h.percentil(99.9) + "," + h.getMaximo();
+        }
+
+        // Executa a operação para todas as chaves e retorna o tempo total (ns)
+        // - Taxa fixa: uma única agenda para a execução inteira, horário da operação i =
+        //   início + i * intervalo. Um atraso empurra todas as operações seguintes, que
+        //   passam a medir também a espera (correção de coordinated omission)
+        // - O tempo de montar os Registros de cada lote fica fora da medição: a agenda é
+        //   deslocada exatamente por essa pausa, sem recomeçar
+        private static long medir(int[] chaves, Motor m, Operacao op, int amostragem, long opsPorSegundo,
+                                  HistogramaLatencia hist) {
+            Registro[] lote = m.usaRegistro ? new Registro[LOTE] : null;
+            double intervalo = (opsPorSegundo > 0) ? 1e9 / opsPorSegundo : 0;
+            long ok = 0;
+            long total = 0;
+            long inicio = System.nanoTime();
+            long pausas = 0; // Tempo gasto montando lotes, descontado da agenda
+
+            for (int base = 0; base < chaves.length; base += LOTE) {
+                int n = Math.min(LOTE, chaves.length - base);
+                if (lote != null) {
+                    long p0 = System.nanoTime();
+                    for (int j = 0; j < n; j++) lote[j] = new Registro(codigo(chaves[base + j]));
+                    pausas += System.nanoTime() - p0;
+                }
+
+                long inicioLote = System.nanoTime();
+                for (int j = 0; j < n; j++) {
+                    int i = base + j;
+                    int k = chaves[i];
+                    Registro r = (lote != null) ? lote[j] : null;
+                    if (intervalo > 0) {
+                        long agendado = inicio + pausas + (long) (i * intervalo);
+                        while (System.nanoTime() < agendado) Thread.onSpinWait();
+                        if (i % amostragem == 0) {
+                            if (op.executar(k, r)) ok++;
+                            hist.registrar(System.nanoTime() - agendado);
+                        } else if (op.executar(k, r)) ok++;
+                    } else if (i % amostragem == 0) {
+                        long t0 = System.nanoTime();
+                        if (op.executar(k, r)) ok++;
+                        hist.registrar(System.nanoTime() - t0);
+                    } else if (op.executar(k, r)) ok++;
+                }
+                total += System.nanoTime() - inicioLote;
+            }
+            sumidouro += ok;
+            return total;
+        }
+
+        // Código de 9 dígitos com zeros à esquerda (sem String.format)
+        private static String codigo(int chave) {
+            char[] c = new char[9];
+            for (int d = 8; d >= 0; d--) {
+                c[d] = (char) ('0' + chave % 10);
+                chave /= 10;
+            }
+            return new String(c);
+        }
+    }
+
+    // Benchmark de memória: vazão ao lado do heap ocupado e do tempo de GC
+    // - Cada motor monta uma tabela com todas as chaves (α = 0.75) e mede inserção e busca
+    // - Tempo e número de coletas do GC durante a inserção + busca (GarbageCollectorMXBean)
+    // - Com a tabela ainda viva: heap ocupado depois de um GC completo, memória direta
+    //   (fora do heap) em uso e a duração desse GC completo, que cresce com o que o GC
+    //   precisa percorrer
+    public static class BenchmarkMemoria {
+        private static volatile long sumidouro;
+
+        private static class Motor {
+            final String metodo, modo;
+            final Object tabela;
+            final IntConsumer inserir;
+            final IntPredicate contem;
+
+            Motor(String metodo, String modo, Object tabela, IntConsumer inserir, IntPredicate contem) {
+                this.metodo = metodo;
+                this.modo = modo;
+                this.tabela = tabela;
+                this.inserir = inserir;
+                this.contem = contem;
+            }
+        }
+
+        private static List<Supplier<Motor>> motores(int M, int quantidade, FuncaoHash f1, FuncaoHash f2) {
+            List<Supplier<Motor>> lista = new ArrayList<>();
+            lista.add(() -> {
+                TabelaEncadeada t = new TabelaEncadeada(M, f1);
+                return new Motor("encadeamento", "ordenado_registro", t,
+                        k -> t.inserir(new Registro(BenchmarkLatencia.codigo(k))),
+                        k -> t.contem(new Registro(BenchmarkLatencia.codigo(k))));
+            });
+            lista.add(() -> {
+                TabelaEnderecAberto t = new TabelaEnderecAberto(M, f1, f2, TabelaEnderecAberto.Modo.DUPLO);
+                return new Motor("enderecamento_aberto", "duplo_registro", t,
+                        k -> t.inserir(new Registro(BenchmarkLatencia.codigo(k))),
+                        k -> t.contem(new Registro(BenchmarkLatencia.codigo(k))));
+            });
+            for (TabelaEnderecAberto.Modo modo : new TabelaEnderecAberto.Modo[] {
+                    TabelaEnderecAberto.Modo.DUPLO, TabelaEnderecAberto.Modo.QUADRATICO }) {
+                lista.add(() -> {
+                    TabelaEnderecAbertoInt t = new TabelaEnderecAbertoInt(M, f1, f2, modo);
+                    return new Motor("enderecamento_aberto", modo.name().toLowerCase() + "_int", t, t::inserir, t::contem);
+                });
+                lista.add(() -> {
+                    TabelaEnderecAbertoForaHeap t = new TabelaEnderecAbertoForaHeap(M, f1, f2, modo);
+                    return new Motor("enderecamento_aberto", modo.name().toLowerCase() + "_fora_heap", t, t::inserir, t::contem);
+                });
+            }
+            lista.add(() -> {
+                TabelaQuociente t = new TabelaQuociente(quantidade, 1L); // Dimensiona pela própria carga máxima (0.75)
+                return new Motor("quociente", "resto_empacotado", t, t::inserir, t::contem);
+            });
+            return lista;
+        }
+
+        public static void executar(int[] chaves, FuncaoHash f1, FuncaoHash f2, String arquivoCsv) throws Exception {
+            int M = HashUtils.proximoPrimo((int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(chaves.length / 0.75)));
+            MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+            System.out.println("\n*** BENCHMARK DE MEMÓRIA (" + chaves.length + " chaves, Tabela=" + M + ") ***");
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(arquivoCsv))) {
+                bw.write("metodo,modo,tamanhoTabela,tamanhoDataset,tempoInsercaoNs,tempoBuscaNs,insercoesPorSeg,buscasPorSeg,"
+                        + "heapUsadoBytes,foraHeapBytes,bytesPorChave,tempoGcMs,coletasGc,gcCompletoMs\n");
+                for (Supplier<Motor> criar : motores(M, chaves.length, f1, f2)) {
+                    System.gc();
+                    System.gc(); // O segundo pega o que o primeiro só liberou para finalização/limpeza
+                    long gcTempo0 = tempoGc(), gcColetas0 = coletasGc();
+                    long heap0 = memoria.getHeapMemoryUsage().getUsed(), foraHeap0 = memoriaDireta();
+
+                    Motor m = criar.get();
+                    long t0 = System.nanoTime();
+                    for (int k : chaves) m.inserir.accept(k);
+                    long t1 = System.nanoTime();
+                    long achados = 0;
+                    for (int k : chaves) if (m.contem.test(k)) achados++;
+                    long t2 = System.nanoTime();
+                    sumidouro += achados;
+
+                    long tempoGcMs = tempoGc() - gcTempo0;
+                    long coletas = coletasGc() - gcColetas0;
+                    long g0 = System.nanoTime();
+                    System.gc();
+                    long gcCompletoMs = (System.nanoTime() - g0) / 1_000_000;
+                    long heap = memoria.getHeapMemoryUsage().getUsed();
+                    long foraHeap = memoriaDireta();
+                    Reference.reachabilityFence(m.tabela); // A tabela tem que estar viva no GC acima
+                    // Crescimento de heap + memória direta depois do GC completo, dividido pelas chaves
+                    double bytesPorChave = (double) (heap - heap0 + foraHeap - foraHeap0) / chaves.length;
+
+                    double insPorSeg = chaves.length / ((t1 - t0) / 1e9);
+                    double buscaPorSeg = chaves.length / ((t2 - t1) / 1e9);
+                    System.out.printf(java.util.Locale.US,
+                            "%-20s %-20s | ins %7.2f Mops/s | busca %7.2f Mops/s | heap %7.1f MB | fora do heap %7.1f MB | %6.2f bytes/chave | GC %6d ms (%d coletas) | GC completo %5d ms%n",
+                            m.metodo, m.modo, insPorSeg / 1e6, buscaPorSeg / 1e6, heap / 1048576.0, foraHeap / 1048576.0,
+                            bytesPorChave, tempoGcMs, coletas, gcCompletoMs);
+                    bw.write(String.format(java.util.Locale.US, "%s,%s,%d,%d,%d,%d,%.0f,%.0f,%d,%d,%.2f,%d,%d,%d\n",
+                            m.metodo, m.modo, M, chaves.length, t1 - t0, t2 - t1, insPorSeg, buscaPorSeg,
+                            heap, foraHeap, bytesPorChave, tempoGcMs, coletas, gcCompletoMs));
+
+                    if (m.tabela instanceof AutoCloseable) ((AutoCloseable) m.tabela).close();
+                    m = null; // Senão a tabela anterior ainda conta no heap inicial da próxima
+                }
+            }
+            System.out.println("Resultados salvos em: " + arquivoCsv);
+        }
+
+        private static long tempoGc() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+                total += Math.max(0, gc.getCollectionTime());
+            return total;
+        }
+
+        private static long coletasGc() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+                total += Math.max(0, gc.getCollectionCount());
+            return total;
+        }
+
+        private static long memoriaDireta() {
+            for (BufferPoolMXBean p : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class))
+                if (p.getName().equals("direct")) return p.getMemoryUsed();
+            return 0;
         }
     }
 
-    // Implementação com Endereçamento Aberto (Rehashing)
-    public static class TabelaEnderecAberto {
-        private final Registro[] tabela;
-        private final boolean[] usado;
-        private final int tamanho;
-        private long colisoes = 0;
-        private final FuncaoHash f1;
-        private final FuncaoHash f2;
-        private final Modo modo;
+    // Benchmark da busca em lote (contemLote) contra a busca uma a uma (contem)
+    // - Tabela com α = 0.75 sobre chaves em memória; consultas = as mesmas chaves em outra ordem
+    // - Para cada tamanho de grupo: AQUECIMENTOS rodadas descartadas e mediana de MEDICOES
+    // - Grupo 0 na saída = busca uma a uma, como referência
+    public static class BenchmarkLote {
+        private static final int AQUECIMENTOS = 3;
+        private static final int MEDICOES = 5;
+        private static volatile long sumidouro;
 
-        public enum Modo { DUPLO, QUADRATICO }
+        private interface BuscaLote { void executar(int[] consulta, boolean[] resultado, int grupo); }
 
-        public TabelaEnderecAberto(int tamanho, FuncaoHash f1, FuncaoHash f2, Modo modo) {
-            this.tamanho = tamanho;
-            this.f1 = f1;
-            this.f2 = f2;
-            this.modo = modo;
-            this.tabela = new Registro[tamanho];
-            this.usado = new boolean[tamanho];
-        }
+        public static void executar(int[] chaves, int[] grupos, FuncaoHash f1, FuncaoHash f2, String arquivoCsv) throws IOException {
+            int M = HashUtils.proximoPrimo((int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(chaves.length / 0.75)));
 
-        public boolean inserir(Registro r) {
-            int chave = r.paraInteiro();
-            int h1 = f1.hash(chave, tamanho);
-            
-            if (modo == Modo.DUPLO) {
-                int h2 = f2.hash(HashUtils.inverterDigitos(chave), tamanho);
-                if (h2 == 0) h2 = 1; // Garante que o passo não seja zero
-                
-                for (int i = 0; i < tamanho; i++) {
-                    int pos = Math.floorMod(h1 + i * h2, tamanho);
-                    if (!usado[pos]) {
-                        tabela[pos] = r;
-                        usado[pos] = true;
-                        colisoes += i; // A colisão é contada a partir da primeira tentativa (i=0)
-                        return true;
-                    }
+            // Consultas: as chaves embaralhadas (todas presentes), para o acesso não seguir a ordem da inserção
+            int[] consulta = chaves.clone();
+            SplittableRandom rnd = new SplittableRandom(chaves.length);
+            for (int i = consulta.length - 1; i > 0; i--) {
+                int j = rnd.nextInt(i + 1);
+                int t = consulta[i]; consulta[i] = consulta[j]; consulta[j] = t;
+            }
+            boolean[] resultado = new boolean[consulta.length];
+
+            System.out.println("\n*** BENCHMARK DE BUSCA EM LOTE (" + chaves.length + " chaves, Tabela=" + M + ") ***");
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(arquivoCsv))) {
+                bw.write("metodo,modo,tamanhoTabela,tamanhoDataset,grupo,tempoBuscaNs,buscasPorSeg,nsPorBusca\n");
+                for (TabelaEnderecAberto.Modo modo : new TabelaEnderecAberto.Modo[] {
+                        TabelaEnderecAberto.Modo.DUPLO, TabelaEnderecAberto.Modo.QUADRATICO }) {
+                    TabelaEnderecAbertoInt t = new TabelaEnderecAbertoInt(M, f1, f2, modo);
+                    for (int k : chaves) t.inserir(k);
+                    medir(bw, "enderecamento_aberto_int", modo.name().toLowerCase(), M, consulta, resultado, grupos,
+                            t::contem, t::contemLote);
                 }
-                return false; // Tabela cheia ou loop
-            } else { // Probing Quadrático
-                for (int i = 0; i < tamanho; i++) {
-                    // Função de probing quadrático: (h1 + c1*i + c2*i^2) mod M. Usando c1=1 e c2=3.
-                    // O valor i representa o número de colisões antes da inserção
-                    int pos = Math.floorMod(h1 + i + 3 * i * i, tamanho); 
-                    if (!usado[pos]) {
-                        tabela[pos] = r;
-                        usado[pos] = true;
-                        colisoes += i;
-                        return true;
+                TabelaEncadeadaArena a = new TabelaEncadeadaArena(M, f1, chaves.length);
+                for (int k : chaves) a.inserir(k);
+                medir(bw, "encadeamento", "arena_ordenado", M, consulta, resultado, grupos, a::contem, a::contemLote);
+            }
+            System.out.println("Resultados salvos em: " + arquivoCsv);
+        }
+
+        private static void medir(BufferedWriter bw, String metodo, String modo, int M, int[] consulta, boolean[] resultado,
+                                  int[] grupos, IntPredicate contem, BuscaLote lote) throws IOException {
+            int[] todos = new int[grupos.length + 1]; // 0 = uma a uma
+            System.arraycopy(grupos, 0, todos, 1, grupos.length);
+            for (int grupo : todos) {
+                long[] tempos = new long[MEDICOES];
+                for (int it = 0; it < AQUECIMENTOS + MEDICOES; it++) {
+                    long achados = 0;
+                    long t0 = System.nanoTime();
+                    if (grupo == 0) {
+                        for (int k : consulta) if (contem.test(k)) achados++;
+                    } else {
+                        lote.executar(consulta, resultado, grupo);
+                        for (boolean b : resultado) if (b) achados++;
                     }
+                    long t1 = System.nanoTime();
+                    sumidouro += achados;
+                    if (it >= AQUECIMENTOS) tempos[it - AQUECIMENTOS] = t1 - t0;
                 }
-                return false;
+                Arrays.sort(tempos);
+                long tempo = tempos[MEDICOES / 2];
+                double porSeg = consulta.length / (tempo / 1e9);
+                System.out.printf(java.util.Locale.US, "%-24s %-16s grupo %4s | %7.2f Mbuscas/s | %6.1f ns/busca%n",
+                        metodo, modo, grupo == 0 ? "-" : String.valueOf(grupo), porSeg / 1e6, (double) tempo / consulta.length);
+                bw.write(String.format(java.util.Locale.US, "%s,%s,%d,%d,%d,%d,%.0f,%.2f\n",
+                        metodo, modo, M, consulta.length, grupo, tempo, porSeg, (double) tempo / consulta.length));
             }
         }
+    }
 
-        public boolean contem(Registro r) {
-            int chave = r.paraInteiro();
-            int h1 = f1.hash(chave, tamanho);
-            
-            if (modo == Modo.DUPLO) {
-                int h2 = f2.hash(HashUtils.inverterDigitos(chave), tamanho);
-                if (h2 == 0) h2 = 1;
-                
-                for (int i = 0; i < tamanho; i++) {
-                    int pos = Math.floorMod(h1 + i * h2, tamanho);
-                    if (!usado[pos]) return false; // Parada da busca: posição nunca foi usada
-                    if (tabela[pos] != null && tabela[pos].equals(r)) return true;
-                }
-                return false;
-            } else { // Probing Quadrático
-                for (int i = 0; i < tamanho; i++) {
-                    int pos = Math.floorMod(h1 + i + 3 * i * i, tamanho);
-                    if (!usado[pos]) return false;
-                    if (tabela[pos] != null && tabela[pos].equals(r)) return true;
+    // Leitor de dataset mapeado em memória (zero cópia)
+    // - O arquivo tem registros de largura fixa: 9 dígitos + "\n" (10 bytes) ou "\r\n" (11 bytes)
+    // - O registro i começa no byte i * largura; os dígitos ASCII viram int direto,
+    //   sem String, sem trim() e sem Registro
+    // - Arquivos maiores que 2 GB são mapeados em várias janelas de até 1 GB, sempre com
+    //   um número inteiro de registros (nenhum registro fica dividido entre janelas)
+    public static class LeitorMapeado implements AutoCloseable {
+        private static final int DIGITOS = 9;
+        private static final long BYTES_POR_JANELA = 1L << 30;
+
+        private final int largura;
+        private final long quantidade;
+        private final long registrosPorJanela;
+        private MappedByteBuffer[] janelas;
+        private long cursor = 0; // Próximo registro de proximoLote()
+
+        public LeitorMapeado(Path arquivo) throws IOException {
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                long tamanhoArquivo = canal.size();
+                this.largura = detectarLargura(canal);
+                if (tamanhoArquivo % largura != 0)
+                    throw new IOException("Arquivo não tem registros de largura fixa (" + largura + " bytes): " + arquivo);
+                this.quantidade = tamanhoArquivo / largura;
+                this.registrosPorJanela = BYTES_POR_JANELA / largura;
+
+                int numJanelas = (int) Math.max(1, (quantidade + registrosPorJanela - 1) / registrosPorJanela);
+                this.janelas = new MappedByteBuffer[numJanelas];
+                for (int j = 0; j < numJanelas; j++) {
+                    long ini = j * registrosPorJanela * largura;
+                    long tam = Math.min(registrosPorJanela * largura, tamanhoArquivo - ini);
+                    janelas[j] = canal.map(FileChannel.MapMode.READ_ONLY, ini, tam);
                 }
-                return false;
             }
         }
 
-        public long getColisoes() { return colisoes; }
+        private static int detectarLargura(FileChannel canal) throws IOException {
+            ByteBuffer inicio = ByteBuffer.allocate(DIGITOS + 2);
+            canal.read(inicio, 0);
+            if (inicio.position() == 0) return DIGITOS + 1; // Arquivo vazio
+            if (inicio.position() > DIGITOS && inicio.get(DIGITOS) == '\n') return DIGITOS + 1;
+            if (inicio.position() > DIGITOS + 1 && inicio.get(DIGITOS) == '\r' && inicio.get(DIGITOS + 1) == '\n')
+                return DIGITOS + 2;
+            throw new IOException("Primeira linha não tem " + DIGITOS + " dígitos seguidos de quebra de linha");
+        }
 
-        public double[] calcularGaps() {
-            int anterior = -1, cont = 0;
-            long soma = 0;
-            int menor = Integer.MAX_VALUE, maior = Integer.MIN_VALUE;
-            
-            // Percorre o vetor e mede o espaço entre elementos usados
-            for (int i = 0; i < tamanho; i++) {
-                if (usado[i]) {
-                    if (anterior != -1) {
-                        int gap = i - anterior - 1; // gap = espaços livres entre o anterior e o atual
-                        soma += gap;
-                        cont++;
-                        if (gap < menor) menor = gap;
-                        if (gap > maior) maior = gap;
-                    }
-                    anterior = i;
-                }
+        public long getQuantidade() { return quantidade; }
+
+        // Código do registro i (0 <= i < getQuantidade())
+        public int chave(long i) {
+            if (janelas == null) throw new IllegalStateException("Leitor já foi fechado");
+            MappedByteBuffer janela = janelas[(int) (i / registrosPorJanela)];
+            int off = (int) (i % registrosPorJanela) * largura;
+            int valor = 0;
+            for (int d = 0; d < DIGITOS; d++) {
+                int digito = janela.get(off + d) - '0';
+                if (digito < 0 || digito > 9)
+                    throw new IllegalArgumentException("Registro " + i + " tem caractere que não é dígito");
+                valor = valor * 10 + digito;
             }
-            
-            if (cont <= 0) return new double[]{0, 0, 0};
-            return new double[]{menor, maior, ((double) soma) / cont};
+            return valor;
+        }
+
+        public IntStream chaves() {
+            return LongStream.range(0, quantidade).mapToInt(this::chave);
+        }
+
+        // Preenche o lote com os próximos códigos; retorna quantos leu (0 no fim do arquivo)
+        public int proximoLote(int[] lote) {
+            int n = (int) Math.min(lote.length, quantidade - cursor);
+            for (int i = 0; i < n; i++) lote[i] = chave(cursor + i);
+            cursor += n;
+            return n;
+        }
+
+        public void reiniciar() { cursor = 0; }
+
+        public int[] lerTodas() {
+            if (quantidade > Integer.MAX_VALUE - 8)
+                throw new IllegalStateException("Dataset grande demais para um int[]: " + quantidade);
+            int[] todas = new int[(int) quantidade];
+            for (int i = 0; i < todas.length; i++) todas[i] = chave(i);
+            return todas;
+        }
+
+        // Desfaz o mapeamento das janelas na hora, sem esperar o GC (ver liberarBuffer)
+        @Override
+        public void close() {
+            if (janelas == null) return;
+            MappedByteBuffer[] abertas = janelas;
+            janelas = null;
+            for (MappedByteBuffer janela : abertas) liberarBuffer(janela);
         }
     }
 
     // Geração de dados com seed fixa (Gera arquivo para leitura)
+    // - Texto: um código de 9 dígitos por linha, formatado direto em bytes (sem String.format)
+    // - Binário: cabeçalho + códigos em int32 little-endian ou compactados em 30 bits
+    // - Os dois formatos usam a mesma sequência de Random(seed), então dados_N.txt e
+    //   dados_N.bin gerados com a mesma seed têm exatamente as mesmas chaves
     public static class GeradorDados {
+        private static final int DIGITOS = 9;
+        private static final int TAMANHO_BUFFER = 1 << 16;
+
+        // Cabeçalho binário (little-endian): magic "THB1", versão, formato, quantidade, seed
+        public static final int MAGIC_BINARIO = 0x31424854; // "THB1"
+        public static final int VERSAO_BINARIO = 1;
+        public static final int FORMATO_INT32 = 0;
+        public static final int FORMATO_30_BITS = 1;
+        private static final int TAMANHO_CABECALHO = 4 + 4 + 4 + 8 + 8;
+        private static final int BITS_CHAVE = 30; // 10^9 < 2^30
+
         public static void gerar(String arquivo, long seed, long quantidade) throws IOException {
-            try (BufferedWriter bw = new BufferedWriter(new FileWriter(arquivo))) {
+            byte[] quebra = System.lineSeparator().getBytes(StandardCharsets.US_ASCII); // Igual ao newLine()
+            int largura = DIGITOS + quebra.length;
+            byte[] buf = new byte[(TAMANHO_BUFFER / largura) * largura];
+
+            try (OutputStream out = new FileOutputStream(arquivo)) {
                 Random rnd = new Random(seed);
+                int pos = 0;
                 for (long i = 0; i < quantidade; i++) {
                     int val = rnd.nextInt(1_000_000_000); // 9 dígitos
-                    String codigo = String.format("%09d", val);
-                    bw.write(codigo);
-                    bw.newLine();
+                    // Escreve os dígitos da direita para a esquerda (zeros à esquerda incluídos)
+                    for (int d = DIGITOS - 1; d >= 0; d--) {
+                        buf[pos + d] = (byte) ('0' + val % 10);
+                        val /= 10;
+                    }
+                    System.arraycopy(quebra, 0, buf, pos + DIGITOS, quebra.length);
+                    pos += largura;
+                    if (pos == buf.length) {
+                        out.write(buf, 0, pos);
+                        pos = 0;
+                    }
+                }
+                out.write(buf, 0, pos);
+            }
+        }
+
+        public static void gerarBinario(String arquivo, long seed, long quantidade, int formato) throws IOException {
+            if (formato != FORMATO_INT32 && formato != FORMATO_30_BITS)
+                throw new IllegalArgumentException("Formato binário desconhecido: " + formato);
+
+            ByteBuffer buf = ByteBuffer.allocate(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileChannel canal = FileChannel.open(new File(arquivo).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                buf.putInt(MAGIC_BINARIO).putInt(VERSAO_BINARIO).putInt(formato).putLong(quantidade).putLong(seed);
+
+                Random rnd = new Random(seed);
+                long acumulador = 0; // Bits pendentes do formato compactado
+                int bitsPendentes = 0;
+                for (long i = 0; i < quantidade; i++) {
+                    int val = rnd.nextInt(1_000_000_000);
+                    if (buf.remaining() < 8) escreverTudo(canal, buf);
+                    if (formato == FORMATO_INT32) {
+                        buf.putInt(val);
+                    } else {
+                        acumulador |= (long) val << bitsPendentes;
+                        bitsPendentes += BITS_CHAVE;
+                        while (bitsPendentes >= 8) {
+                            buf.put((byte) acumulador);
+                            acumulador >>>= 8;
+                            bitsPendentes -= 8;
+                        }
+                    }
+                }
+                if (bitsPendentes > 0) buf.put((byte) acumulador);
+                escreverTudo(canal, buf);
+            }
+        }
+
+        private static void escreverTudo(FileChannel canal, ByteBuffer buf) throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) canal.write(buf);
+            buf.clear();
+        }
+
+        // Geração paralela e determinística
+        // - A saída é dividida em pedaços de REGISTROS_POR_PEDACO registros; o pedaço c usa o
+        //   c-ésimo SplittableRandom obtido por split() de SplittableRandom(seed)
+        // - Cada pedaço é gerado em uma thread e gravado na sua posição do arquivo com
+        //   escrita posicional; como tudo tem largura fixa, a posição só depende de c
+        // - O arquivo é idêntico byte a byte para qualquer número de threads (mas a
+        //   sequência de chaves é outra que a de gerar(), que usa java.util.Random)
+        public static final int FORMATO_TEXTO = -1;
+        private static final int REGISTROS_POR_PEDACO = 1 << 20; // Múltiplo de 4: 30 bits fecham em byte
+
+        public static void gerarParalelo(String arquivo, long seed, long quantidade, int threads, int formato)
+                throws Exception {
+            if (formato != FORMATO_TEXTO && formato != FORMATO_INT32 && formato != FORMATO_30_BITS)
+                throw new IllegalArgumentException("Formato desconhecido: " + formato);
+            byte[] quebra = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+            int larguraTexto = DIGITOS + quebra.length;
+            long inicioDados = (formato == FORMATO_TEXTO) ? 0 : TAMANHO_CABECALHO;
+
+            int numPedacos = (int) ((quantidade + REGISTROS_POR_PEDACO - 1) / REGISTROS_POR_PEDACO);
+            SplittableRandom mestre = new SplittableRandom(seed);
+            SplittableRandom[] geradores = new SplittableRandom[numPedacos];
+            for (int c = 0; c < numPedacos; c++) geradores[c] = mestre.split();
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try (FileChannel canal = FileChannel.open(new File(arquivo).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (formato != FORMATO_TEXTO) {
+                    ByteBuffer cab = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+                    cab.putInt(MAGIC_BINARIO).putInt(VERSAO_BINARIO).putInt(formato).putLong(quantidade).putLong(seed);
+                    cab.flip();
+                    while (cab.hasRemaining()) canal.write(cab, cab.position());
+                }
+
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int c = 0; c < numPedacos; c++) {
+                    int pedaco = c;
+                    tarefas.add(pool.submit(() -> {
+                        long primeiro = (long) pedaco * REGISTROS_POR_PEDACO;
+                        int n = (int) Math.min(REGISTROS_POR_PEDACO, quantidade - primeiro);
+                        SplittableRandom rnd = geradores[pedaco];
+                        ByteBuffer buf;
+                        long offset;
+
+                        if (formato == FORMATO_TEXTO) {
+                            buf = ByteBuffer.allocate(n * larguraTexto);
+                            byte[] b = buf.array();
+                            for (int i = 0, pos = 0; i < n; i++, pos += larguraTexto) {
+                                int val = rnd.nextInt(1_000_000_000);
+                                for (int d = DIGITOS - 1; d >= 0; d--) {
+                                    b[pos + d] = (byte) ('0' + val % 10);
+                                    val /= 10;
+                                }
+                                System.arraycopy(quebra, 0, b, pos + DIGITOS, quebra.length);
+                            }
+                            offset = primeiro * larguraTexto;
+                        } else if (formato == FORMATO_INT32) {
+                            buf = ByteBuffer.allocate(n * 4).order(ByteOrder.LITTLE_ENDIAN);
+                            for (int i = 0; i < n; i++) buf.putInt(rnd.nextInt(1_000_000_000));
+                            offset = inicioDados + primeiro * 4;
+                        } else {
+                            buf = ByteBuffer.allocate((int) (((long) n * BITS_CHAVE + 7) / 8));
+                            long acumulador = 0;
+                            int bitsPendentes = 0;
+                            for (int i = 0; i < n; i++) {
+                                acumulador |= (long) rnd.nextInt(1_000_000_000) << bitsPendentes;
+                                bitsPendentes += BITS_CHAVE;
+                                while (bitsPendentes >= 8) {
+                                    buf.put((byte) acumulador);
+                                    acumulador >>>= 8;
+                                    bitsPendentes -= 8;
+                                }
+                            }
+                            if (bitsPendentes > 0) buf.put((byte) acumulador); // Só no último pedaço
+                            offset = inicioDados + primeiro * BITS_CHAVE / 8;
+                        }
+
+                        buf.position(0);
+                        while (buf.hasRemaining()) canal.write(buf, offset + buf.position());
+                        return null;
+                    }));
+                }
+                for (Future<?> f : tarefas) f.get();
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // As mesmas chaves de gerarParalelo(seed, quantidade), direto em memória
+        public static int[] gerarEmMemoria(long seed, int quantidade) {
+            int[] chaves = new int[quantidade];
+            SplittableRandom mestre = new SplittableRandom(seed);
+            for (int ini = 0; ini < quantidade; ini += REGISTROS_POR_PEDACO) {
+                SplittableRandom rnd = mestre.split();
+                int fim = (int) Math.min(quantidade, (long) ini + REGISTROS_POR_PEDACO);
+                for (int i = ini; i < fim; i++) chaves[i] = rnd.nextInt(1_000_000_000);
+            }
+            return chaves;
+        }
+
+        // Carrega um arquivo gerado por gerarBinario ou gerarParalelo (qualquer formato binário)
+        public static int[] carregarBinario(String arquivo) throws IOException {
+            try (FileChannel canal = FileChannel.open(new File(arquivo).toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+                mapa.order(ByteOrder.LITTLE_ENDIAN);
+                if (mapa.remaining() < TAMANHO_CABECALHO || mapa.getInt() != MAGIC_BINARIO)
+                    throw new IOException("Não é um dataset binário: " + arquivo);
+                int versao = mapa.getInt();
+                if (versao != VERSAO_BINARIO) throw new IOException("Versão não suportada: " + versao);
+                int formato = mapa.getInt();
+                if (formato != FORMATO_INT32 && formato != FORMATO_30_BITS)
+                    throw new IOException("Formato binário desconhecido: " + formato + " em " + arquivo);
+                long quantidade = mapa.getLong();
+                mapa.getLong(); // seed (só informativo)
+                if (quantidade < 0) throw new IOException("Quantidade negativa no cabeçalho: " + arquivo);
+                if (quantidade > Integer.MAX_VALUE - 8)
+                    throw new IOException("Dataset grande demais para um int[]: " + quantidade);
+
+                long bytesEsperados = (formato == FORMATO_INT32) ? quantidade * 4 : (quantidade * BITS_CHAVE + 7) / 8;
+                if (mapa.remaining() != bytesEsperados)
+                    throw new IOException("Tamanho inconsistente com o cabeçalho: " + arquivo);
+
+                int[] chaves = new int[(int) quantidade];
+                if (formato == FORMATO_INT32) {
+                    mapa.asIntBuffer().get(chaves);
+                } else {
+                    long acumulador = 0;
+                    int bits = 0;
+                    for (int i = 0; i < chaves.length; i++) {
+                        while (bits < BITS_CHAVE) {
+                            acumulador |= (long) (mapa.get() & 0xFF) << bits;
+                            bits += 8;
+                        }
+                        chaves[i] = (int) (acumulador & ((1L << BITS_CHAVE) - 1));
+                        acumulador >>>= BITS_CHAVE;
+                        bits -= BITS_CHAVE;
+                    }
                 }
+                return chaves;
             }
         }
     }
@@ -324,6 +3900,26 @@ public class TabelaHash {
         public void fechar() throws IOException { bw.close(); }
     }
 
+    // Libera um buffer direto ou mapeado sem esperar o GC (Unsafe.invokeCleaner, do módulo
+    // jdk.unsupported); se não estiver disponível, a memória volta quando o buffer for coletado
+    static void liberarBuffer(ByteBuffer buffer) {
+        try {
+            Class<?> classe = Class.forName("sun.misc.Unsafe");
+            java.lang.reflect.Field campo = classe.getDeclaredField("theUnsafe");
+            campo.setAccessible(true);
+            classe.getMethod("invokeCleaner", ByteBuffer.class).invoke(campo.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Sem Unsafe: fica para o GC
+        }
+    }
+
+    // Lê um dataset (um código por linha) para um int[]
+    public static int[] lerChaves(String arquivo) throws IOException {
+        try (LeitorMapeado leitor = new LeitorMapeado(new File(arquivo).toPath())) {
+            return leitor.lerTodas();
+        }
+    }
+
     // Execução principal
     public static void main(String[] args) throws Exception {
 
@@ -342,6 +3938,20 @@ public class TabelaHash {
         File dir = new File(pasta);
         if (!dir.exists()) dir.mkdirs();
 
+        // Geração paralela para testes de capacidade: java TabelaHash gerar <registros> [threads] [txt|bin|bin30]
+        if (args.length > 1 && args[0].equals("gerar")) {
+            long qtd = Long.parseLong(args[1]);
+            int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            String tipo = (args.length > 3) ? args[3] : "txt";
+            int formato = tipo.equals("bin") ? GeradorDados.FORMATO_INT32
+                    : tipo.equals("bin30") ? GeradorDados.FORMATO_30_BITS : GeradorDados.FORMATO_TEXTO;
+            String arq = pasta + "/dados_paralelo_" + qtd + (formato == GeradorDados.FORMATO_TEXTO ? ".txt" : ".bin");
+            long t0 = System.nanoTime();
+            GeradorDados.gerarParalelo(arq, seed, qtd, threads, formato);
+            System.out.printf(java.util.Locale.US, "Gerado %s com %d threads em %.2f s%n", arq, threads, (System.nanoTime() - t0) / 1e9);
+            return;
+        }
+
         // Gera os arquivos com seed fixa
         for (long qtd : dados) {
             String arq = pasta + "/dados_" + qtd + ".txt";
@@ -351,45 +3961,119 @@ public class TabelaHash {
             } else {
                 System.out.println("Arquivo já existe: " + arq);
             }
+            // Mesmas chaves em formato binário compactado (30 bits por código)
+            String bin = pasta + "/dados_" + qtd + ".bin";
+            if (!new File(bin).exists()) {
+                System.out.println("Gerando " + bin + " (binário, 30 bits por código)...");
+                GeradorDados.gerarBinario(bin, seed, qtd, GeradorDados.FORMATO_30_BITS);
+            }
         }
 
-        EscritorCSV csv = new EscritorCSV(resultado);
-        csv.cabecalho();
-
         // Funções Hash escolhidas:
         FuncaoHash hashMult = (k, M) -> HashUtils.hashMultiplicativo(k, M);
-        // CORREÇÃO: Usando Math.abs(k) para garantir que o resultado do módulo seja sempre positivo.
-        FuncaoHash hashSec = (k, M) -> 1 + (Math.abs(k) % (M - 1)); // Hash secundário para Hash Duplo
+        // Passo do Hash Duplo: multiplicação com semente fixa (antes: inverter dígitos + módulo)
+        FuncaoHash hashSec = CatalogoHash.passoMultiplicativo(seed);
+
+        // Relatório das funções hash: java TabelaHash hashes
+        if (args.length > 0 && args[0].equals("hashes")) {
+            String[] nomes = {"multiplicativo", "divisao", "multiplica_desloca", "tabulacao", "murmur3",
+                    "passo_inverter_digitos", "passo_multiplicativo"};
+            FuncaoHash[] funcoes = {
+                hashMult,
+                (k, M) -> Math.floorMod(k, M),
+                CatalogoHash.multiplicaDesloca(seed),
+                CatalogoHash.tabulacao(seed),
+                CatalogoHash.murmur(seed),
+                (k, M) -> 1 + (HashUtils.inverterDigitos(k) % (M - 1)),
+                hashSec
+            };
+            for (long qtd : dados)
+                RelatorioHash.executar(lerChaves(pasta + "/dados_" + qtd + ".txt"), tamanhos, nomes, funcoes,
+                        "relatorio_hash_" + qtd + ".csv");
+            return;
+        }
+
+        // Micro-benchmark com aquecimento: java TabelaHash micro [tamanho...]
+        if (args.length > 0 && args[0].equals("micro")) {
+            int[] tamMicro = {tamanhos[0], tamanhos[1]};
+            if (args.length > 1) {
+                tamMicro = new int[args.length - 1];
+                for (int i = 1; i < args.length; i++) tamMicro[i - 1] = Integer.parseInt(args[i]);
+            }
+            String[] nomesFuncoes = {"multiplicativo", "divisao", "murmur"};
+            FuncaoHash[] funcoes = {
+                hashMult,
+                (k, M) -> Math.floorMod(k, M),
+                (k, M) -> Math.floorMod(HashUtils.misturar(k, 0), M)
+            };
+            int[] chaves = lerChaves(pasta + "/dados_" + dados[dados.length - 1] + ".txt");
+            BenchmarkMicro.executar(chaves, tamMicro, new double[] {0.25, 0.5, 0.75, 0.9},
+                    nomesFuncoes, funcoes, hashSec, "resultados_micro.csv");
+            return;
+        }
+
+        // Percentis de latência por operação: java TabelaHash latencia [amostragem] [opsPorSegundo]
+        if (args.length > 0 && args[0].equals("latencia")) {
+            int amostragem = (args.length > 1) ? Integer.parseInt(args[1]) : 8;
+            long opsPorSegundo = (args.length > 2) ? Long.parseLong(args[2]) : 0;
+            BenchmarkLatencia.executar(tamanhos, dados, pasta, hashMult, hashSec, seed, amostragem, opsPorSegundo,
+                    "resultados_latencia.csv", "histogramas_latencia.csv");
+            return;
+        }
+
+        // Heap, GC e vazão com tabelas dentro e fora do heap: java TabelaHash memoria [registros]
+        if (args.length > 0 && args[0].equals("memoria")) {
+            int qtd = (args.length > 1) ? Integer.parseInt(args[1]) : (int) dados[dados.length - 1];
+            BenchmarkMemoria.executar(GeradorDados.gerarEmMemoria(seed, qtd), hashMult, hashSec, "resultados_memoria.csv");
+            return;
+        }
+
+        // Busca em lote: java TabelaHash lote [registros] [grupo...]
+        if (args.length > 0 && args[0].equals("lote")) {
+            int qtd = (args.length > 1) ? Integer.parseInt(args[1]) : (int) dados[dados.length - 1];
+            int[] grupos = (args.length > 2)
+                    ? Arrays.stream(args, 2, args.length).mapToInt(Integer::parseInt).toArray()
+                    : new int[] {1, 2, 4, 8, 16, 32, 64};
+            BenchmarkLote.executar(GeradorDados.gerarEmMemoria(seed, qtd), grupos, hashMult, hashSec, "resultados_lote.csv");
+            return;
+        }
+
+        // Modo multi-thread: java TabelaHash concorrente [registros]
+        if (args.length > 0 && args[0].equals("concorrente")) {
+            long qtd = (args.length > 1) ? Long.parseLong(args[1]) : dados[1];
+            int M = tamanhos[tamanhos.length - 1];
+            for (int t : tamanhos) if (t >= qtd) { M = t; break; } // Menor tabela que comporta o dataset
+            BenchmarkConcorrente.executar(pasta + "/dados_" + qtd + ".txt", M, hashMult, hashSec,
+                    "resultados_concorrencia.csv");
+            return;
+        }
+
+        EscritorCSV csv = new EscritorCSV(resultado);
+        csv.cabecalho();
 
         System.out.println("\n*** INICIANDO TESTES DE DESEMPENHO ***");
         System.out.println("Resultados detalhados serão salvos em: " + resultado);
 
         for (int M : tamanhos) {
             for (long qtd : dados) {
-                // CORREÇÃO: Pula combinações onde a quantidade de dados é maior que o tamanho da tabela,
-                // pois isso faria o Encadeamento ficar muito lento e quebraria o Endereçamento Aberto.
-                if (qtd > M) {
-                    System.out.println("\n=======================================================");
-                    System.out.println("AVISO: Pulando teste para Tabela=" + M + " | Registros=" + qtd + " (dataset maior que a tabela)");
-                    System.out.println("=======================================================");
-                    continue;
-                }
-
                 String dataset = pasta + "/dados_" + qtd + ".txt";
                 System.out.println("\n=======================================================");
                 System.out.println("Teste | Tabela=" + M + " | Registros=" + qtd);
                 System.out.println("=======================================================");
-                
-                // --- 1. Encadeamento (Inserção Ordenada) ---
-                System.out.println("-> Método 1: Encadeamento (Ordenado)");
-                TabelaEncadeada enc = new TabelaEncadeada(M, hashMult);
-                
+
+                // --- 0. Hash Duplo com crescimento automático ---
+                // Roda em todas as combinações: a tabela cresce ao passar de α=0.75
+                // (migração incremental), então o dataset pode ser maior que M.
+                System.out.println("-> Método 0: Rehashing Duplo com crescimento (α máx 0.75, incremental)");
+                TabelaEnderecAberto tcr = new TabelaEnderecAberto(M, hashMult, hashSec,
+                        TabelaEnderecAberto.Modo.DUPLO, 0.75, true);
+
                 // Inserção
                 long t0 = System.nanoTime();
                 try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
                     String linha;
                     while ((linha = br.readLine()) != null)
-                        enc.inserir(new Registro(linha.trim()));
+                        tcr.inserir(new Registro(linha.trim()));
                 }
                 long t1 = System.nanoTime();
                 long tempoIns = t1 - t0;
@@ -399,28 +4083,28 @@ public class TabelaHash {
                 try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
                     String linha;
                     while ((linha = br.readLine()) != null)
-                        enc.contem(new Registro(linha.trim()));
+                        tcr.contem(new Registro(linha.trim()));
                 }
                 long b1 = System.nanoTime();
                 long tempoBusca = b1 - b0;
 
-                double[] gaps = enc.calcularGaps();
-                Integer[] topListas = enc.getTop3Listas();
-                
-                csv.linha("encadeamento", "ordenado_multiplicativo", M, qtd, tempoIns, tempoBusca,
-                            enc.getColisoes(), topListas[0], topListas[1], topListas[2], gaps[0], gaps[1], gaps[2]);
+                double[] gapsCr = tcr.calcularGaps();
+                csv.linha("enderecamento_aberto", "duplo_crescimento", M, qtd, tempoIns, tempoBusca,
+                            tcr.getColisoes(), 0, 0, 0, gapsCr[0], gapsCr[1], gapsCr[2]);
+                System.out.println("   Tamanho final: " + tcr.getTamanho() + " | α final: "
+                        + String.format(java.util.Locale.US, "%.3f", tcr.getFatorCarga()));
+
+                // --- 0b. Encadeamento com crescimento automático ---
+                // A tabela cresce quando a média das listas passa de 4 nós (migração incremental).
+                System.out.println("-> Método 0b: Encadeamento (Ordenado) com crescimento (média máx 4)");
+                TabelaEncadeada encCr = new TabelaEncadeada(M, hashMult, 4);
 
-                // --- 2. Rehashing Duplo ---
-                System.out.println("-> Método 2: Rehashing Duplo (Multiplicativo + Secundário)");
-                TabelaEnderecAberto tdh = new TabelaEnderecAberto(M, hashMult, hashSec,
-                        TabelaEnderecAberto.Modo.DUPLO);
-                
                 // Inserção
                 t0 = System.nanoTime();
                 try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
                     String linha;
                     while ((linha = br.readLine()) != null)
-                        tdh.inserir(new Registro(linha.trim()));
+                        encCr.inserir(new Registro(linha.trim()));
                 }
                 t1 = System.nanoTime();
                 tempoIns = t1 - t0;
@@ -430,43 +4114,448 @@ public class TabelaHash {
                 try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
                     String linha;
                     while ((linha = br.readLine()) != null)
-                        tdh.contem(new Registro(linha.trim()));
+                        encCr.contem(new Registro(linha.trim()));
                 }
                 b1 = System.nanoTime();
                 tempoBusca = b1 - b0;
 
-                double[] gapsDH = tdh.calcularGaps();
-                csv.linha("enderecamento_aberto", "duplo", M, qtd, tempoIns, tempoBusca,
-                            tdh.getColisoes(), 0, 0, 0, gapsDH[0], gapsDH[1], gapsDH[2]);
+                double[] gapsEncCr = encCr.calcularGaps();
+                Integer[] topListasCr = encCr.getTop3Listas();
+                csv.linha("encadeamento", "ordenado_crescimento", M, qtd, tempoIns, tempoBusca,
+                            encCr.getColisoes(), topListasCr[0], topListasCr[1], topListasCr[2],
+                            gapsEncCr[0], gapsEncCr[1], gapsEncCr[2]);
+                System.out.println("   Tamanho final: " + encCr.getTamanho() + " | média final: "
+                        + String.format(java.util.Locale.US, "%.3f", encCr.getComprimentoMedio()));
 
-                // --- 3. Probing Quadrático ---
-                System.out.println("-> Método 3: Probing Quadrático (Multiplicativo)");
-                TabelaEnderecAberto tq = new TabelaEnderecAberto(M, hashMult, null,
-                        TabelaEnderecAberto.Modo.QUADRATICO);
-                
-                // Inserção
-                t0 = System.nanoTime();
-                try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
-                    String linha;
-                    while ((linha = br.readLine()) != null)
-                        tq.inserir(new Registro(linha.trim()));
+                // CORREÇÃO: Pula os métodos de tamanho fixo quando a quantidade de dados é maior que o tamanho
+                // da tabela, pois isso faria o Encadeamento ficar muito lento e quebraria o Endereçamento Aberto.
+                if (qtd > M) {
+                    System.out.println("AVISO: Pulando métodos de tamanho fixo para Tabela=" + M + " | Registros=" + qtd + " (dataset maior que a tabela)");
+                    continue;
                 }
-                t1 = System.nanoTime();
-                tempoIns = t1 - t0;
 
-                // Busca
-                b0 = System.nanoTime();
-                try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
-                    String linha;
-                    while ((linha = br.readLine()) != null)
-                        tq.contem(new Registro(linha.trim()));
-                }
-                b1 = System.nanoTime();
-                tempoBusca = b1 - b0;
+                // Métodos com chave int leem o dataset mapeado em memória (sem String/Registro)
+                try (LeitorMapeado leitor = new LeitorMapeado(new File(dataset).toPath())) {
+                    int registros = (int) leitor.getQuantidade();
+
+                    // --- 1. Encadeamento (Inserção Ordenada) ---
+                    System.out.println("-> Método 1: Encadeamento (Ordenado)");
+                    TabelaEncadeada enc = new TabelaEncadeada(M, hashMult);
+                
+                    // Inserção
+                    t0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            enc.inserir(new Registro(linha.trim()));
+                    }
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            enc.contem(new Registro(linha.trim()));
+                    }
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gaps = enc.calcularGaps();
+                    Integer[] topListas = enc.getTop3Listas();
+                
+                    csv.linha("encadeamento", "ordenado_multiplicativo", M, qtd, tempoIns, tempoBusca,
+                                enc.getColisoes(), topListas[0], topListas[1], topListas[2], gaps[0], gaps[1], gaps[2]);
+
+                    // --- 1d. Encadeamento construído em paralelo (mesmo resultado do Método 1) ---
+                    int paralelismo = Runtime.getRuntime().availableProcessors();
+                    System.out.println("-> Método 1d: Encadeamento (Ordenado) construído em paralelo (" + paralelismo + " threads)");
+                    t0 = System.nanoTime();
+                    TabelaEncadeada encP = TabelaEncadeada.construirParalelo(new File(dataset).toPath(), M, hashMult, paralelismo);
+                    t1 = System.nanoTime();
+                    if (encP.getColisoes() != enc.getColisoes())
+                        throw new IllegalStateException("Construção paralela divergiu da sequencial");
+                    double[] gapsP = encP.calcularGaps();
+                    Integer[] topListasP = encP.getTop3Listas();
+                    csv.linha("encadeamento", "ordenado_paralelo", M, qtd, t1 - t0, tempoBusca,
+                                encP.getColisoes(), topListasP[0], topListasP[1], topListasP[2], gapsP[0], gapsP[1], gapsP[2]);
 
-                double[] gapsQ = tq.calcularGaps();
-                csv.linha("enderecamento_aberto", "quadratico", M, qtd, tempoIns, tempoBusca,
-                            tq.getColisoes(), 0, 0, 0, gapsQ[0], gapsQ[1], gapsQ[2]);
+                    // --- 1b. Encadeamento com baldes em vetores ordenados ---
+                    System.out.println("-> Método 1b: Encadeamento (Vetores Ordenados)");
+                    TabelaEncadeadaVetor encV = new TabelaEncadeadaVetor(M, hashMult);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        encV.inserir(leitor.chave(i));
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        encV.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsV = encV.calcularGaps();
+                    Integer[] topListasV = encV.getTop3Listas();
+                    csv.linha("encadeamento", "vetor_ordenado", M, qtd, tempoIns, tempoBusca,
+                                encV.getColisoes(), topListasV[0], topListasV[1], topListasV[2], gapsV[0], gapsV[1], gapsV[2]);
+
+                    // --- 1c. Encadeamento com nós em arena de int[] ---
+                    System.out.println("-> Método 1c: Encadeamento (Arena de int[])");
+                    TabelaEncadeadaArena encA = new TabelaEncadeadaArena(M, hashMult, (int) qtd);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        encA.inserir(leitor.chave(i));
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        encA.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsA = encA.calcularGaps();
+                    Integer[] topListasA = encA.getTop3Listas();
+                    csv.linha("encadeamento", "arena_ordenado", M, qtd, tempoIns, tempoBusca,
+                                encA.getColisoes(), topListasA[0], topListasA[1], topListasA[2], gapsA[0], gapsA[1], gapsA[2]);
+
+                    // Imagem persistente: salva a arena e busca direto no arquivo mapeado
+                    // (tempoInsercaoNs da linha "_imagem" = tempo de carregar, sem conferir o CRC)
+                    Path imgA = new File(pasta, "arena_" + M + "_" + qtd + ".img").toPath();
+                    encA.salvar(imgA);
+                    t0 = System.nanoTime();
+                    try (TabelaEncadeadaArena.Imagem im = TabelaEncadeadaArena.carregar(imgA, hashMult, false)) {
+                        t1 = System.nanoTime();
+                        b0 = System.nanoTime();
+                        for (int i = 0; i < registros; i++)
+                            im.contem(leitor.chave(i));
+                        b1 = System.nanoTime();
+                        csv.linha("encadeamento", "arena_ordenado_imagem", M, qtd, t1 - t0, b1 - b0,
+                                    encA.getColisoes(), topListasA[0], topListasA[1], topListasA[2], gapsA[0], gapsA[1], gapsA[2]);
+                    }
+                    Files.delete(imgA);
+
+                    // Congelada: hash perfeito mínimo sobre as chaves da arena (tempoInsercaoNs = construção)
+                    t0 = System.nanoTime();
+                    TabelaPerfeita tpA = encA.congelar();
+                    t1 = System.nanoTime();
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        tpA.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    csv.linha("hash_perfeito", "arena_congelada", tpA.getQuantidade(), qtd, t1 - t0, b1 - b0,
+                                0, 0, 0, 0, 0, 0, 0);
+                    System.out.printf(java.util.Locale.US, "   Congelada: construção %d ms | %.2f bits/chave | %.1f ns/busca | %d níveis%n",
+                            (t1 - t0) / 1_000_000, tpA.getBitsPorChave(), (double) (b1 - b0) / registros, tpA.getNiveis());
+
+                    // --- 2. Rehashing Duplo ---
+                    System.out.println("-> Método 2: Rehashing Duplo (Multiplicativo + Secundário)");
+                    TabelaEnderecAberto tdh = new TabelaEnderecAberto(M, hashMult, hashSec,
+                            TabelaEnderecAberto.Modo.DUPLO);
+                
+                    // Inserção
+                    t0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tdh.inserir(new Registro(linha.trim()));
+                    }
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tdh.contem(new Registro(linha.trim()));
+                    }
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsDH = tdh.calcularGaps();
+                    csv.linha("enderecamento_aberto", "duplo", M, qtd, tempoIns, tempoBusca,
+                                tdh.getColisoes(), 0, 0, 0, gapsDH[0], gapsDH[1], gapsDH[2]);
+
+                    // --- 3. Probing Quadrático ---
+                    System.out.println("-> Método 3: Probing Quadrático (Multiplicativo)");
+                    TabelaEnderecAberto tq = new TabelaEnderecAberto(M, hashMult, null,
+                            TabelaEnderecAberto.Modo.QUADRATICO);
+                
+                    // Inserção
+                    t0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tq.inserir(new Registro(linha.trim()));
+                    }
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tq.contem(new Registro(linha.trim()));
+                    }
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsQ = tq.calcularGaps();
+                    csv.linha("enderecamento_aberto", "quadratico", M, qtd, tempoIns, tempoBusca,
+                                tq.getColisoes(), 0, 0, 0, gapsQ[0], gapsQ[1], gapsQ[2]);
+
+                    // --- 3b. Robin Hood (sondagem linear com deslocamento) ---
+                    System.out.println("-> Método 3b: Robin Hood (Multiplicativo)");
+                    TabelaEnderecAberto trh = new TabelaEnderecAberto(M, hashMult, null,
+                            TabelaEnderecAberto.Modo.ROBIN_HOOD);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            trh.inserir(new Registro(linha.trim()));
+                    }
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            trh.contem(new Registro(linha.trim()));
+                    }
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsRH = trh.calcularGaps();
+                    csv.linha("enderecamento_aberto", "robin_hood", M, qtd, tempoIns, tempoBusca,
+                                trh.getColisoes(), 0, 0, 0, gapsRH[0], gapsRH[1], gapsRH[2]);
+                    System.out.println("   Distância de sondagem: máx " + trh.getDistanciaMaxima() + " | média "
+                            + String.format(java.util.Locale.US, "%.3f", trh.getDistanciaMedia()));
+
+                    // --- 3c. Buscas de chaves ausentes, sem e com filtro de Bloom ---
+                    // Chaves sorteadas que não estão no dataset (conferidas por busca binária)
+                    int numAusentes = Math.min(registros, 1_000_000);
+                    System.out.println("-> Buscas de " + numAusentes + " chaves ausentes (sem e com filtro de Bloom, 10 bits/chave)");
+                    Registro[] ausentes = BenchmarkMicro.sortearAusentes(leitor.lerTodas(), registros, numAusentes);
+                    String[] metodosAus = {"encadeamento", "enderecamento_aberto", "enderecamento_aberto"};
+                    String[] modosAus = {"ordenado", "duplo", "quadratico"};
+                    for (int a = 0; a < modosAus.length; a++) {
+                        java.util.function.Predicate<Registro> busca = (a == 0) ? enc::contem : (a == 1) ? tdh::contem : tq::contem;
+                        long colisoesAus = (a == 0) ? enc.getColisoes() : (a == 1) ? tdh.getColisoes() : tq.getColisoes();
+
+                        b0 = System.nanoTime();
+                        for (Registro r : ausentes)
+                            if (busca.test(r)) throw new IllegalStateException("Chave ausente encontrada: " + r);
+                        long tempoSemFiltro = System.nanoTime() - b0;
+
+                        t0 = System.nanoTime();
+                        FiltroBloom fb = (a == 0) ? enc.ativarFiltroBloom(10) : (a == 1) ? tdh.ativarFiltroBloom(10) : tq.ativarFiltroBloom(10);
+                        long tempoFiltro = System.nanoTime() - t0;
+
+                        b0 = System.nanoTime();
+                        for (Registro r : ausentes)
+                            if (busca.test(r)) throw new IllegalStateException("Chave ausente encontrada: " + r);
+                        long tempoComFiltro = System.nanoTime() - b0;
+
+                        // tempoInsercaoNs: 0 sem filtro; tempo de construção do filtro na linha "_bloom"
+                        csv.linha(metodosAus[a], modosAus[a] + "_ausente", M, numAusentes, 0, tempoSemFiltro,
+                                    colisoesAus, 0, 0, 0, 0, 0, 0);
+                        csv.linha(metodosAus[a], modosAus[a] + "_ausente_bloom", M, numAusentes, tempoFiltro, tempoComFiltro,
+                                    colisoesAus, 0, 0, 0, 0, 0, 0);
+                        System.out.printf(java.util.Locale.US, "   %-10s sem filtro %8.1f ns/busca | com filtro %8.1f ns/busca | falsos positivos %.3f%% (%d KB)%n",
+                                modosAus[a], (double) tempoSemFiltro / numAusentes, (double) tempoComFiltro / numAusentes,
+                                100 * fb.getTaxaFalsosPositivos(), fb.getBytes() / 1024);
+                    }
+
+                    // --- 3d. Sondagem triangular em tabela potência de 2 ---
+                    // Índice por máscara (sem divisão) e sequência que passa por todas as posições
+                    System.out.println("-> Método 3d: Sondagem Triangular (tamanho potência de 2)");
+                    TabelaEnderecAberto tt = new TabelaEnderecAberto(M, hashMult, null,
+                            TabelaEnderecAberto.Modo.QUADRATICO, 0, false, true);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tt.inserir(new Registro(linha.trim()));
+                    }
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    try (BufferedReader br = new BufferedReader(new FileReader(dataset))) {
+                        String linha;
+                        while ((linha = br.readLine()) != null)
+                            tt.contem(new Registro(linha.trim()));
+                    }
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsT = tt.calcularGaps();
+                    csv.linha("enderecamento_aberto", "triangular_potencia2", tt.getTamanho(), qtd, tempoIns, tempoBusca,
+                                tt.getColisoes(), 0, 0, 0, gapsT[0], gapsT[1], gapsT[2]);
+
+                    // --- 4 e 5. Endereçamento Aberto com chaves int (sem Registro) ---
+                    TabelaEnderecAberto.Modo[] modosInt = {TabelaEnderecAberto.Modo.DUPLO, TabelaEnderecAberto.Modo.QUADRATICO};
+                    for (TabelaEnderecAberto.Modo modo : modosInt) {
+                        System.out.println("-> Método: Endereçamento Aberto int[] (" + modo + ")");
+                        TabelaEnderecAbertoInt ti = new TabelaEnderecAbertoInt(M, hashMult, hashSec, modo);
+
+                        // Inserção
+                        t0 = System.nanoTime();
+                        for (int i = 0; i < registros; i++)
+                            ti.inserir(leitor.chave(i));
+                        t1 = System.nanoTime();
+                        tempoIns = t1 - t0;
+
+                        // Busca
+                        b0 = System.nanoTime();
+                        for (int i = 0; i < registros; i++)
+                            ti.contem(leitor.chave(i));
+                        b1 = System.nanoTime();
+                        tempoBusca = b1 - b0;
+
+                        double[] gapsI = ti.calcularGaps();
+                        csv.linha("enderecamento_aberto_int", modo.name().toLowerCase(), M, qtd, tempoIns, tempoBusca,
+                                    ti.getColisoes(), 0, 0, 0, gapsI[0], gapsI[1], gapsI[2]);
+
+                        // Imagem persistente (tempoInsercaoNs = tempo de carregar)
+                        Path imgI = new File(pasta, "int_" + modo.name().toLowerCase() + "_" + M + "_" + qtd + ".img").toPath();
+                        ti.salvar(imgI);
+                        t0 = System.nanoTime();
+                        try (TabelaEnderecAbertoInt.Imagem im = TabelaEnderecAbertoInt.carregar(imgI, hashMult, hashSec, false)) {
+                            t1 = System.nanoTime();
+                            b0 = System.nanoTime();
+                            for (int i = 0; i < registros; i++)
+                                im.contem(leitor.chave(i));
+                            b1 = System.nanoTime();
+                            csv.linha("enderecamento_aberto_int", modo.name().toLowerCase() + "_imagem", M, qtd, t1 - t0, b1 - b0,
+                                        ti.getColisoes(), 0, 0, 0, gapsI[0], gapsI[1], gapsI[2]);
+                        }
+                        Files.delete(imgI);
+
+                        // Congelada (tempoInsercaoNs = construção)
+                        t0 = System.nanoTime();
+                        TabelaPerfeita tpI = ti.congelar();
+                        t1 = System.nanoTime();
+                        b0 = System.nanoTime();
+                        for (int i = 0; i < registros; i++)
+                            tpI.contem(leitor.chave(i));
+                        b1 = System.nanoTime();
+                        csv.linha("hash_perfeito", modo.name().toLowerCase() + "_congelada", tpI.getQuantidade(), qtd, t1 - t0, b1 - b0,
+                                    0, 0, 0, 0, 0, 0, 0);
+                        System.out.printf(java.util.Locale.US, "   Congelada: construção %d ms | %.2f bits/chave | %.1f ns/busca | %d níveis%n",
+                                (t1 - t0) / 1_000_000, tpI.getBitsPorChave(), (double) (b1 - b0) / registros, tpI.getNiveis());
+                    }
+
+                    // --- 4c. Endereçamento Aberto com as chaves fora do heap ---
+                    for (TabelaEnderecAberto.Modo modo : modosInt) {
+                        System.out.println("-> Método: Endereçamento Aberto fora do heap (" + modo + ")");
+                        try (TabelaEnderecAbertoForaHeap tf = new TabelaEnderecAbertoForaHeap(M, hashMult, hashSec, modo)) {
+                            // Inserção
+                            t0 = System.nanoTime();
+                            for (int i = 0; i < registros; i++)
+                                tf.inserir(leitor.chave(i));
+                            t1 = System.nanoTime();
+                            tempoIns = t1 - t0;
+
+                            // Busca
+                            b0 = System.nanoTime();
+                            for (int i = 0; i < registros; i++)
+                                tf.contem(leitor.chave(i));
+                            b1 = System.nanoTime();
+                            tempoBusca = b1 - b0;
+
+                            double[] gapsF = tf.calcularGaps();
+                            csv.linha("enderecamento_aberto_fora_heap", modo.name().toLowerCase(), M, qtd, tempoIns, tempoBusca,
+                                        tf.getColisoes(), 0, 0, 0, gapsF[0], gapsF[1], gapsF[2]);
+                        }
+                    }
+
+                    // --- 6. Cuckoo Hashing (baldes de 4 posições + stash) ---
+                    System.out.println("-> Método 6: Cuckoo (Multiplicativo + Secundário, baldes de 4)");
+                    TabelaCuckoo tc = new TabelaCuckoo(M, hashMult, hashMult, seed); // As sementes já tornam os dois hashes independentes
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        tc.inserir(leitor.chave(i));
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        tc.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsC = tc.calcularGaps();
+                    csv.linha("cuckoo", "baldes4_stash", M, qtd, tempoIns, tempoBusca,
+                                tc.getColisoes(), 0, 0, 0, gapsC[0], gapsC[1], gapsC[2]);
+                    System.out.println("   Rehashes: " + tc.getRehashes() + " | stash: " + tc.getQuantidadeStash()
+                            + " | tamanho final: " + tc.getTamanho());
+
+                    // --- 7. SwissTable (bytes de controle, grupos de 16 comparados em 2 passos SWAR de 8) ---
+                    System.out.println("-> Método 7: SwissTable (Multiplicativo, grupos de 16, SWAR 2 x 64 bits)");
+                    TabelaSwiss ts = new TabelaSwiss(M, hashMult);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        ts.inserir(leitor.chave(i));
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        ts.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    double[] gapsS = ts.calcularGaps();
+                    csv.linha("swiss", "grupos16_swar2x64", M, qtd, tempoIns, tempoBusca,
+                                ts.getColisoes(), 0, 0, 0, gapsS[0], gapsS[1], gapsS[2]);
+
+                    // --- 8. Tabela de quocientes (só o resto de cada chave, empacotado em bits) ---
+                    System.out.println("-> Método 8: Tabela de Quocientes (resto + 3 bits por posição)");
+                    TabelaQuociente tq8 = new TabelaQuociente(registros, seed);
+
+                    // Inserção
+                    t0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        tq8.inserir(leitor.chave(i));
+                    t1 = System.nanoTime();
+                    tempoIns = t1 - t0;
+
+                    // Busca
+                    b0 = System.nanoTime();
+                    for (int i = 0; i < registros; i++)
+                        tq8.contem(leitor.chave(i));
+                    b1 = System.nanoTime();
+                    tempoBusca = b1 - b0;
+
+                    csv.linha("quociente", "q" + tq8.getBitsQuociente() + "_r" + tq8.getBitsResto(), tq8.getTamanho(), qtd,
+                                tempoIns, tempoBusca, tq8.getColisoes(), 0, 0, 0, 0, 0, 0);
+                    System.out.printf(java.util.Locale.US, "   Memória: %.2f bytes/chave (%d bytes, %d posições)%n",
+                            tq8.getBytesPorChave(), tq8.getBytes(), tq8.getTamanho());
+                }
             }
         }
 
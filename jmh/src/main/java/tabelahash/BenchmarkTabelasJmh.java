@@ -0,0 +1,194 @@
+package tabelahash;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Micro-benchmark JMH das tabelas (motor x função hash x tamanho x fator de carga)
+// - Cada combinação de @Param roda em JVMs próprias (@Fork): o perfil do JIT de um motor
+//   ou função hash não contamina os outros, e a ordem de execução não muda o resultado
+// - buscaAcerto/buscaFalha: uma busca por operação, na tabela cheia até o fator de carga
+// - inserir: as n = fatorCarga * tamanho chaves numa tabela nova (tempo do lote inteiro)
+// - As chaves são as do modo gerar (GeradorDados.gerarEmMemoria com a seed do main)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BenchmarkTabelasJmh {
+    private static final long SEED = 123456789L;
+
+    @Param({"encadeamento", "duplo", "quadratico", "robin_hood", "int_duplo", "arena", "cuckoo", "swiss"})
+    public String motor;
+
+    @Param({"multiplicativo", "divisao", "murmur"})
+    public String hash;
+
+    @Param({"150001", "1500007"})
+    public int tamanho;
+
+    @Param({"0.25", "0.5", "0.75", "0.9"})
+    public double fatorCarga;
+
+    private int n;
+    private int[] presentes;
+    private int[] ausentes;
+    private TabelaHash.Registro[] presentesR;
+    private TabelaHash.Registro[] ausentesR;
+    private Motor cheia; // Tabela das buscas, preenchida uma vez por trial
+    private int cursor;
+
+    // Tabela nova a cada chamada de inserir() (estado separado: as buscas não recriam a tabela)
+    @State(Scope.Thread)
+    public static class TabelaVazia {
+        Motor motor;
+
+        @Setup(Level.Invocation)
+        public void novaTabela(BenchmarkTabelasJmh b) {
+            motor = b.novoMotor();
+        }
+    }
+
+    // Operações comuns aos motores; as tabelas de Registro usam os vetores presentesR/ausentesR
+    interface Motor {
+        void inserir(int i);
+        boolean contemPresente(int i);
+        boolean contemAusente(int i);
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        n = (int) (fatorCarga * tamanho);
+        presentes = TabelaHash.GeradorDados.gerarEmMemoria(SEED, n);
+        ausentes = sortearAusentes(presentes, n);
+        presentesR = paraRegistros(presentes);
+        ausentesR = paraRegistros(ausentes);
+        cheia = novoMotor();
+        for (int i = 0; i < n; i++) cheia.inserir(i);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    public Object inserir(TabelaVazia vazia) {
+        for (int i = 0; i < n; i++) vazia.motor.inserir(i);
+        return vazia.motor;
+    }
+
+    @Benchmark
+    public void buscaAcerto(Blackhole bh) {
+        bh.consume(cheia.contemPresente(proximo()));
+    }
+
+    @Benchmark
+    public void buscaFalha(Blackhole bh) {
+        bh.consume(cheia.contemAusente(proximo()));
+    }
+
+    private int proximo() {
+        int i = cursor;
+        cursor = (i + 1 == n) ? 0 : i + 1;
+        return i;
+    }
+
+    private TabelaHash.FuncaoHash funcao() {
+        switch (hash) {
+            case "multiplicativo": return TabelaHash.HashUtils::hashMultiplicativo;
+            case "divisao": return (k, M) -> Math.floorMod(k, M);
+            case "murmur": return (k, M) -> Math.floorMod(TabelaHash.HashUtils.misturar(k, 0), M);
+            default: throw new IllegalArgumentException("Função hash desconhecida: " + hash);
+        }
+    }
+
+    private Motor novoMotor() {
+        TabelaHash.FuncaoHash f1 = funcao();
+        TabelaHash.FuncaoHash f2 = TabelaHash.CatalogoHash.passoMultiplicativo(SEED);
+        switch (motor) {
+            case "encadeamento": {
+                TabelaHash.TabelaEncadeada t = new TabelaHash.TabelaEncadeada(tamanho, f1);
+                return motorRegistro(t::inserir, t::contem);
+            }
+            case "duplo":
+            case "quadratico":
+            case "robin_hood": {
+                TabelaHash.TabelaEnderecAberto t = new TabelaHash.TabelaEnderecAberto(tamanho, f1, f2,
+                        TabelaHash.TabelaEnderecAberto.Modo.valueOf(motor.toUpperCase()));
+                return motorRegistro(t::inserir, t::contem);
+            }
+            case "int_duplo": {
+                TabelaHash.TabelaEnderecAbertoInt t = new TabelaHash.TabelaEnderecAbertoInt(tamanho, f1, f2,
+                        TabelaHash.TabelaEnderecAberto.Modo.DUPLO);
+                return motorInt(t::inserir, t::contem);
+            }
+            case "arena": {
+                TabelaHash.TabelaEncadeadaArena t = new TabelaHash.TabelaEncadeadaArena(tamanho, f1);
+                return motorInt(t::inserir, t::contem);
+            }
+            case "cuckoo": {
+                TabelaHash.TabelaCuckoo t = new TabelaHash.TabelaCuckoo(tamanho, f1, f2, SEED);
+                return motorInt(t::inserir, t::contem);
+            }
+            case "swiss": {
+                TabelaHash.TabelaSwiss t = new TabelaHash.TabelaSwiss(tamanho, f1);
+                return motorInt(t::inserir, t::contem);
+            }
+            default: throw new IllegalArgumentException("Motor desconhecido: " + motor);
+        }
+    }
+
+    private interface InserirRegistro { void inserir(TabelaHash.Registro r); }
+    private interface ContemRegistro { boolean contem(TabelaHash.Registro r); }
+    private interface InserirInt { void inserir(int chave); }
+    private interface ContemInt { boolean contem(int chave); }
+
+    private Motor motorRegistro(InserirRegistro ins, ContemRegistro busca) {
+        return new Motor() {
+            public void inserir(int i) { ins.inserir(presentesR[i]); }
+            public boolean contemPresente(int i) { return busca.contem(presentesR[i]); }
+            public boolean contemAusente(int i) { return busca.contem(ausentesR[i]); }
+        };
+    }
+
+    private Motor motorInt(InserirInt ins, ContemInt busca) {
+        return new Motor() {
+            public void inserir(int i) { ins.inserir(presentes[i]); }
+            public boolean contemPresente(int i) { return busca.contem(presentes[i]); }
+            public boolean contemAusente(int i) { return busca.contem(ausentes[i]); }
+        };
+    }
+
+    // 'quantidade' códigos de 9 dígitos que não estão entre as chaves
+    private static int[] sortearAusentes(int[] chaves, int quantidade) {
+        int[] ordenadas = chaves.clone();
+        Arrays.sort(ordenadas);
+        SplittableRandom rnd = new SplittableRandom(quantidade);
+        int[] ausentes = new int[quantidade];
+        for (int i = 0; i < quantidade; ) {
+            int k = rnd.nextInt(1_000_000_000);
+            if (Arrays.binarySearch(ordenadas, k) < 0) ausentes[i++] = k;
+        }
+        return ausentes;
+    }
+
+    private static TabelaHash.Registro[] paraRegistros(int[] chaves) {
+        TabelaHash.Registro[] r = new TabelaHash.Registro[chaves.length];
+        for (int i = 0; i < chaves.length; i++) r[i] = new TabelaHash.Registro(String.format("%09d", chaves[i]));
+        return r;
+    }
+}